@@ -0,0 +1,37 @@
+package io.kestra.plugin.trello;
+
+import java.time.Duration;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class AbstractTrelloTrigger extends AbstractTrigger implements TrelloConnectionInterface {
+    protected Property<String> apiKey;
+
+    protected Property<String> apiToken;
+
+    @Builder.Default
+    protected Property<String> apiVersion = Property.ofValue("1");
+
+    @Builder.Default
+    protected Property<String> apiBaseUrl = Property.ofValue("https://api.trello.com");
+
+    protected CircuitBreakerOptions circuitBreaker;
+
+    protected Property<Duration> readCacheWindow;
+
+    protected QuotaOptions quota;
+
+    @Builder.Default
+    protected Property<Boolean> http2 = Property.ofValue(false);
+}
@@ -0,0 +1,44 @@
+package io.kestra.plugin.trello;
+
+import java.time.Duration;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.client.CircuitBreaker;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class CircuitBreakerOptions {
+    @Schema(title = "Enabled", description = "Route Trello calls through the shared circuit breaker of the base URL. Defaults to `true`")
+    @Builder.Default
+    private Property<Boolean> enabled = Property.ofValue(true);
+
+    @Schema(title = "Failure Threshold", description = "Consecutive 5xx responses or connection/timeout errors that open the circuit. Defaults to `5`")
+    @Builder.Default
+    private Property<Integer> failureThreshold = Property.ofValue(5);
+
+    @Schema(title = "Open Duration", description = "How long the circuit fails fast before letting probe requests through. Defaults to `PT30S`")
+    @Builder.Default
+    private Property<Duration> openDuration = Property.ofValue(Duration.ofSeconds(30));
+
+    @Schema(title = "Half-Open Probes", description = "Probe requests allowed while half-open; the circuit closes once they all succeed. Defaults to `1`")
+    @Builder.Default
+    private Property<Integer> halfOpenProbes = Property.ofValue(1);
+
+    public static CircuitBreaker.Settings render(RunContext runContext, CircuitBreakerOptions options) throws Exception {
+        CircuitBreakerOptions rOptions = options != null ? options : CircuitBreakerOptions.builder().build();
+
+        return new CircuitBreaker.Settings(
+            runContext.render(rOptions.enabled).as(Boolean.class).orElse(true),
+            runContext.render(rOptions.failureThreshold).as(Integer.class).orElse(5),
+            runContext.render(rOptions.openDuration).as(Duration.class).orElse(Duration.ofSeconds(30)),
+            runContext.render(rOptions.halfOpenProbes).as(Integer.class).orElse(1)
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package io.kestra.plugin.trello;
+
+import java.time.Duration;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.client.QuotaTracker;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class QuotaOptions {
+    @Schema(title = "Request Limit", description = "Requests Trello allows per token and window. Defaults to `100`, Trello's limit per token every 10 seconds")
+    @Builder.Default
+    private Property<Integer> requestLimit = Property.ofValue(100);
+
+    @Schema(title = "Window", description = "Length of the sliding window the limit applies to. Defaults to `PT10S`")
+    @Builder.Default
+    private Property<Duration> window = Property.ofValue(Duration.ofSeconds(10));
+
+    @Schema(title = "Namespace Share", description = "Fraction of `requestLimit` (for example `0.25`) one namespace may use within a window on a shared token. Requests are only counted when unset")
+    private Property<Double> namespaceShare;
+
+    @Schema(title = "On Exceeded", description = "What happens to a request above the namespace share: `QUEUE` waits for room in the window, `REJECT` fails the task right away. Defaults to `QUEUE`")
+    @Builder.Default
+    private Property<OnExceeded> onExceeded = Property.ofValue(OnExceeded.QUEUE);
+
+    @Schema(title = "Max Queue Wait", description = "Longest a queued request waits before failing. Defaults to `PT30S`")
+    @Builder.Default
+    private Property<Duration> maxQueueWait = Property.ofValue(Duration.ofSeconds(30));
+
+    public enum OnExceeded {
+        QUEUE,
+        REJECT
+    }
+
+    public static QuotaTracker.Settings render(RunContext runContext, QuotaOptions options) throws Exception {
+        QuotaOptions rOptions = options != null ? options : QuotaOptions.builder().build();
+
+        return new QuotaTracker.Settings(
+            runContext.render(rOptions.requestLimit).as(Integer.class).orElse(100),
+            runContext.render(rOptions.window).as(Duration.class).orElse(Duration.ofSeconds(10)),
+            runContext.render(rOptions.namespaceShare).as(Double.class).orElse(null),
+            runContext.render(rOptions.onExceeded).as(OnExceeded.class).orElse(OnExceeded.QUEUE) == OnExceeded.REJECT,
+            runContext.render(rOptions.maxQueueWait).as(Duration.class).orElse(Duration.ofSeconds(30))
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package io.kestra.plugin.trello;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Durable state of a Trello trigger or task, kept in the flow namespace KV store with one entry per state name under
+ * a prefix owned by that trigger or task.
+ */
+public final class StateStore {
+    private final KVStore kvStore;
+    private final String prefix;
+    private final String description;
+
+    private StateStore(KVStore kvStore, String prefix, String description) {
+        this.kvStore = kvStore;
+        this.prefix = prefix;
+        this.description = description;
+    }
+
+    /** State of one trigger of a flow. */
+    public static StateStore ofTrigger(RunContext runContext, TriggerContext context) {
+        return new StateStore(
+            runContext.namespaceKv(context.getNamespace()),
+            "trello_trigger_" + context.getFlowId() + "_" + context.getTriggerId() + "_",
+            "Trello trigger state"
+        );
+    }
+
+    /** State shared by the runs of a task, under a user-chosen state key. */
+    public static StateStore ofTask(RunContext runContext, String task, String stateKey) {
+        return new StateStore(
+            runContext.namespaceKv(runContext.flowInfo().namespace()),
+            "trello_" + task + "_" + stateKey + "_",
+            "Trello " + task + " state"
+        );
+    }
+
+    public Optional<String> get(String name) throws Exception {
+        return kvStore.getValue(prefix + name).map(KVValue::value).map(Object::toString);
+    }
+
+    public void put(String name, String value) throws Exception {
+        kvStore.put(prefix + name, new KVValueAndMetadata(new KVMetadata(description, (Duration) null), value));
+    }
+
+    public void delete(String name) throws Exception {
+        kvStore.delete(prefix + name);
+    }
+}
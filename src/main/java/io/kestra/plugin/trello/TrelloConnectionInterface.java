@@ -0,0 +1,65 @@
+package io.kestra.plugin.trello;
+
+import java.time.Duration;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.client.TrelloClient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Connection properties shared by every Trello task and trigger, and the client they open with them.
+ */
+public interface TrelloConnectionInterface {
+    @Schema(title = "Trello API Key", description = "API key used to authenticate Trello requests. Render this from a secret")
+    @NotNull
+    @PluginProperty(secret = true, group = "main")
+    Property<String> getApiKey();
+
+    @Schema(title = "Trello API Token", description = "API token used to authenticate Trello requests. Render this from a secret")
+    @NotNull
+    @PluginProperty(secret = true, group = "main")
+    Property<String> getApiToken();
+
+    @Schema(title = "API Version", description = "Trello REST API version appended to the base URL. Defaults to `1`", defaultValue = "1")
+    @PluginProperty(group = "advanced")
+    Property<String> getApiVersion();
+
+    @Schema(title = "Base API URL", description = "Base URL for Trello API requests. Defaults to `https://api.trello.com`; override only for compatible proxies or tests")
+    @PluginProperty(group = "connection")
+    Property<String> getApiBaseUrl();
+
+    @Schema(title = "Circuit Breaker", description = "Shared per-base-URL circuit breaker that fails fast during Trello outages instead of waiting for every request to time out")
+    @PluginProperty(group = "connection")
+    CircuitBreakerOptions getCircuitBreaker();
+
+    @Schema(title = "Read Cache Window", description = "Identical concurrent GET requests (same URL and credentials) in the worker always share one HTTP call; when set, the shared response is also reused for this long. Defaults to no caching")
+    @PluginProperty(group = "connection")
+    Property<Duration> getReadCacheWindow();
+
+    @Schema(title = "Quota", description = "Accounting of Trello requests per token, namespace, and flow, reported as `quota.*` metrics, with an optional per-namespace share of the token's rate limit")
+    @PluginProperty(group = "connection")
+    QuotaOptions getQuota();
+
+    @Schema(title = "HTTP/2", description = "Send requests over one shared, multiplexed HTTP/2 connection per host instead of a connection per parallel request. Servers or proxies that only speak HTTP/1.1 are used over HTTP/1.1. " +
+        "Requests then bypass the Kestra HTTP client: they go through the JVM default proxy selector and trust store, with a 30 second connect timeout and a 2 minute request timeout, and are not logged by Kestra's HTTP client. Defaults to `false`")
+    @PluginProperty(group = "connection")
+    Property<Boolean> getHttp2();
+
+    /** Opens a client with the rendered connection settings; close it when the run or evaluation is done. */
+    default TrelloClient client(RunContext runContext) throws Exception {
+        return TrelloClient.open(runContext, new TrelloClient.Connection(
+            runContext.render(getApiBaseUrl()).as(String.class).orElse("https://api.trello.com"),
+            runContext.render(getApiVersion()).as(String.class).orElse("1"),
+            runContext.render(getApiKey()).as(String.class).orElseThrow(),
+            runContext.render(getApiToken()).as(String.class).orElseThrow(),
+            CircuitBreakerOptions.render(runContext, getCircuitBreaker()),
+            QuotaOptions.render(runContext, getQuota()),
+            runContext.render(getReadCacheWindow()).as(Duration.class).orElse(Duration.ZERO),
+            runContext.render(getHttp2()).as(Boolean.class).orElse(false)
+        ));
+    }
+}
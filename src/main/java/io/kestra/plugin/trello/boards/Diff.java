@@ -0,0 +1,199 @@
+package io.kestra.plugin.trello.boards;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Diff two Trello board snapshots",
+    description = "Compares two board snapshots stored in internal storage (ION files with one card per row) and writes the added, removed, and changed cards, with field-level differences, to a new ION file. " +
+        "Snapshots are read as streams ordered by card ID; a snapshot not already in that order is sorted on disk first, in runs of `sortBufferSize` rows, so memory use does not grow with the board size"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Diff this week's board snapshot against last week's",
+            full = true,
+            code = """
+                id: trello_board_diff
+                namespace: company.team
+
+                inputs:
+                  - id: before
+                    type: FILE
+                  - id: after
+                    type: FILE
+
+                tasks:
+                  - id: diff
+                    type: io.kestra.plugin.trello.boards.Diff
+                    before: "{{ inputs.before }}"
+                    after: "{{ inputs.after }}"
+                    ignoreFields:
+                      - dateLastActivity
+                """
+        )
+    }
+)
+public class Diff extends Task implements RunnableTask<Diff.Output> {
+
+    @Schema(title = "Before Snapshot", description = "Internal storage URI of the older snapshot")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<String> before;
+
+    @Schema(title = "After Snapshot", description = "Internal storage URI of the newer snapshot")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<String> after;
+
+    @Schema(title = "Key Field", description = "Field that identifies a card in both snapshots. Defaults to `id`")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<String> keyField = Property.ofValue("id");
+
+    @Schema(title = "Ignored Fields", description = "Fields left out of the comparison, for example `dateLastActivity`")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> ignoreFields;
+
+    @Schema(title = "Sort Buffer Size", description = "Rows held in memory while sorting a snapshot that is not ordered by the key field. Defaults to `10000`")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> sortBufferSize = Property.ofValue(10000);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        URI rBefore = URI.create(runContext.render(this.before).as(String.class).orElseThrow());
+        URI rAfter = URI.create(runContext.render(this.after).as(String.class).orElseThrow());
+        String rKeyField = runContext.render(this.keyField).as(String.class).orElse("id");
+        Set<String> rIgnored = new HashSet<>(runContext.render(this.ignoreFields).asList(String.class));
+        int rBufferSize = runContext.render(this.sortBufferSize).as(Integer.class).orElse(10000);
+
+        Path report = runContext.workingDir().createTempFile(".ion");
+        int added = 0;
+        int removed = 0;
+        int changed = 0;
+
+        try (
+            SortedRows beforeRows = SortedRows.open(runContext, () -> runContext.storage().getFile(rBefore), rKeyField, rBufferSize);
+            SortedRows afterRows = SortedRows.open(runContext, () -> runContext.storage().getFile(rAfter), rKeyField, rBufferSize);
+            OutputStream output = new BufferedOutputStream(Files.newOutputStream(report), FileSerde.BUFFER_SIZE)
+        ) {
+            // Merge join on the key: a key only on one side is a removed or added card, on both sides a possible change
+            while (beforeRows.peek() != null || afterRows.peek() != null) {
+                String beforeKey = beforeRows.peekKey();
+                String afterKey = afterRows.peekKey();
+                int order = beforeKey == null ? 1 : afterKey == null ? -1 : beforeKey.compareTo(afterKey);
+
+                if (order < 0) {
+                    write(output, beforeKey, "REMOVED", beforeRows.peek(), null);
+                    removed++;
+                    beforeRows.advance();
+                } else if (order > 0) {
+                    write(output, afterKey, "ADDED", afterRows.peek(), null);
+                    added++;
+                    afterRows.advance();
+                } else {
+                    List<Map<String, Object>> changes = compare(beforeRows.peek(), afterRows.peek(), rIgnored);
+                    if (!changes.isEmpty()) {
+                        write(output, afterKey, "CHANGED", afterRows.peek(), changes);
+                        changed++;
+                    }
+                    beforeRows.advance();
+                    afterRows.advance();
+                }
+            }
+        }
+
+        runContext.metric(Counter.of("cards.added", added));
+        runContext.metric(Counter.of("cards.removed", removed));
+        runContext.metric(Counter.of("cards.changed", changed));
+        runContext.logger().info("Snapshot diff: {} added, {} removed, {} changed cards", added, removed, changed);
+
+        return Output.builder()
+            .added(added)
+            .removed(removed)
+            .changed(changed)
+            .uri(runContext.storage().putFile(report.toFile()))
+            .build();
+    }
+
+    private static List<Map<String, Object>> compare(Map<String, Object> before, Map<String, Object> after, Set<String> ignored) {
+        Set<String> fields = new LinkedHashSet<>(before.keySet());
+        fields.addAll(after.keySet());
+
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (String field : fields) {
+            if (ignored.contains(field) || Objects.equals(before.get(field), after.get(field))) {
+                continue;
+            }
+
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("field", field);
+            change.put("oldValue", before.get(field));
+            change.put("newValue", after.get(field));
+            changes.add(change);
+        }
+
+        return changes;
+    }
+
+    private static void write(OutputStream output, String key, String type, Map<String, Object> card,
+        List<Map<String, Object>> changes) throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("key", key);
+        row.put("type", type);
+        row.put("card", card);
+        if (changes != null) {
+            row.put("changes", changes);
+        }
+
+        FileSerde.write(output, row);
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Added Cards", description = "Cards only in the after snapshot")
+        private final Integer added;
+
+        @Schema(title = "Removed Cards", description = "Cards only in the before snapshot")
+        private final Integer removed;
+
+        @Schema(title = "Changed Cards", description = "Cards in both snapshots with at least one differing field")
+        private final Integer changed;
+
+        @Schema(title = "Diff URI", description = "Internal storage URI of an ION file with one row per added, removed, or changed card: `key`, `type` (`ADDED`, `REMOVED`, or `CHANGED`), `card` (the newer version when it exists), and `changes` (`field`, `oldValue`, `newValue`) for changed cards")
+        private final URI uri;
+    }
+}
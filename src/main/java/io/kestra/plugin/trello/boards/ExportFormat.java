@@ -0,0 +1,19 @@
+package io.kestra.plugin.trello.boards;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(title = "Export Format", description = "File format of exported rows: `ION` for one row per line, `AVRO` for compressed Avro container files with a fixed schema")
+public enum ExportFormat {
+    ION(".ion"),
+    AVRO(".avro");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return this.extension;
+    }
+}
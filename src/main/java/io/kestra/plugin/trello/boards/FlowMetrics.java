@@ -0,0 +1,430 @@
+package io.kestra.plugin.trello.boards;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.StateStore;
+import io.kestra.plugin.trello.client.TrelloClient;
+import io.kestra.plugin.trello.client.TrelloRef;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Compute flow metrics of a Trello board",
+    description = "Computes lead time, cycle time, throughput, and per-list WIP and time in list from the board's card creations and list moves. " +
+        "Only actions newer than the previous run are downloaded: running aggregates (the current list of each in-progress card and per-list percentile sketches) are kept, compressed, in the namespace KV store. " +
+        "Cards that are archived, deleted, or moved to another board leave the WIP of their list"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Update the flow metrics of a board every night",
+            full = true,
+            code = """
+                id: trello_flow_metrics
+                namespace: company.team
+
+                tasks:
+                  - id: flow_metrics
+                    type: io.kestra.plugin.trello.boards.FlowMetrics
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardId: "5abbe4b7ddc1b351ef961400"
+                    startListIds:
+                      - "5abbe4b7ddc1b351ef961410"
+                    doneListIds:
+                      - "5abbe4b7ddc1b351ef961419"
+                    store: true
+
+                triggers:
+                  - id: nightly
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "0 2 * * *"
+                """
+        )
+    }
+)
+public class FlowMetrics extends AbstractTrelloTask {
+    private static final String STATE = "state";
+
+    private static final int ACTIONS_PAGE_SIZE = 1000;
+
+    // List entries, plus the ways a card leaves the board or comes back to it
+    private static final String ACTIONS = "createCard,updateCard:idList,updateCard:closed,deleteCard,moveCardFromBoard";
+
+    private static final TypeReference<Move> MOVE = new TypeReference<>() {};
+
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    @Schema(title = "Board ID", description = "Board whose card flow is measured")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<String> boardId;
+
+    @Schema(title = "Done List IDs", description = "Lists where work counts as finished; reaching one ends lead and cycle time and counts toward throughput")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<List<String>> doneListIds;
+
+    @Schema(title = "Start List IDs", description = "Lists where work counts as started; the first move into one starts cycle time. Without them, cycle time is not computed")
+    @PluginProperty(group = "main")
+    protected Property<List<String>> startListIds;
+
+    @Schema(title = "State Key", description = "Key of the running aggregates in the namespace KV store. Defaults to the board ID; change it to recompute from the full history")
+    @PluginProperty(group = "advanced")
+    protected Property<String> stateKey;
+
+    @Schema(title = "Store Details", description = "Also write an ION file with one row per card completed during this run (`cardId`, `completedAt`, `leadTimeHours`, `cycleTimeHours`). Defaults to `false`")
+    @Builder.Default
+    @PluginProperty(group = "destination")
+    protected Property<Boolean> store = Property.ofValue(false);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String rBoardId = runContext.render(this.boardId).as(String.class).orElseThrow();
+        Set<String> rDone = new HashSet<>(runContext.render(this.doneListIds).asList(String.class));
+        Set<String> rStart = new HashSet<>(runContext.render(this.startListIds).asList(String.class));
+        String rStateKey = runContext.render(this.stateKey).as(String.class).orElse(rBoardId);
+        boolean rStore = runContext.render(this.store).as(Boolean.class).orElse(false);
+
+        StateStore stateStore = StateStore.ofTask(runContext, "flow_metrics", rStateKey);
+        FlowMetricsState state = stateStore.get(STATE).map(value -> {
+            try {
+                return FlowMetricsState.deserialize(value);
+            } catch (Exception e) {
+                runContext.logger().warn("Unreadable flow metrics state, recomputing from the full history", e);
+                return new FlowMetricsState();
+            }
+        }).orElseGet(FlowMetricsState::new);
+
+        String checkpoint = state.getCheckpoint();
+        Path details = rStore ? runContext.workingDir().createTempFile(".ion") : null;
+        int processed;
+        long completed;
+        try (TrelloClient client = client(runContext);
+             OutputStream output = details != null ? new BufferedOutputStream(Files.newOutputStream(details), FileSerde.BUFFER_SIZE) : OutputStream.nullOutputStream()) {
+            long[] completions = new long[1];
+            processed = replayMoves(runContext, client, rBoardId, state, move -> {
+                Map<String, Object> completion = apply(state, move, rStart, rDone);
+                if (completion != null) {
+                    completions[0]++;
+                    FileSerde.write(output, completion);
+                }
+            });
+            completed = completions[0];
+        }
+
+        if (!Objects.equals(checkpoint, state.getCheckpoint())) {
+            stateStore.put(STATE, state.serialize());
+        }
+
+        URI uri = details != null ? runContext.storage().putFile(details.toFile()) : null;
+
+        runContext.metric(Counter.of("actions.processed", processed));
+        runContext.metric(Counter.of("cards.completed", completed));
+        runContext.logger().info("Processed {} new card actions, {} cards completed, {} cards in progress",
+            processed, completed, state.getCards().size());
+
+        return Output.builder()
+            .actionsProcessed(processed)
+            .throughput((int) completed)
+            .completedTotal(state.getCompleted())
+            .leadTime(Percentiles.of(state.getLeadTime()))
+            .cycleTime(rStart.isEmpty() ? null : Percentiles.of(state.getCycleTime()))
+            .lists(state.getLists().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(list -> ListMetrics.builder()
+                    .listId(list.getKey())
+                    .wip(rDone.contains(list.getKey()) ? null : list.getValue().getWip())
+                    .entered(list.getValue().getEntered())
+                    .exited(list.getValue().getExited())
+                    .timeInList(Percentiles.of(list.getValue().getDwell()))
+                    .build())
+                .toList())
+            .uri(uri)
+            .build();
+    }
+
+    /**
+     * Folds one move into the state and returns the completion row when it brought the card to a done list.
+     */
+    private static Map<String, Object> apply(FlowMetricsState state, Move move, Set<String> start, Set<String> done) {
+        long at = move.date().toEpochMilli();
+        FlowMetricsState.CardPosition card = state.getCards().get(move.cardId());
+
+        // The card's last known list is trusted over the action's listBefore, so WIP stays consistent
+        if (card != null && card.getListId() != null) {
+            FlowMetricsState.ListStats from = state.list(card.getListId());
+            from.setExited(from.getExited() + 1);
+            from.setWip(Math.max(0, from.getWip() - 1));
+            if (card.getEnteredAt() != null && move.toListId() != null) {
+                from.getDwell().add((at - card.getEnteredAt()) / 1000.0);
+            }
+        }
+
+        if (move.toListId() == null) {
+            // Archived, deleted, or moved to another board: no longer work in progress, and not a completion
+            state.getCards().remove(move.cardId());
+            return null;
+        }
+
+        if (card == null) {
+            // Cards created before the processed history only have their moves from now on
+            card = new FlowMetricsState.CardPosition();
+            if (move.created()) {
+                card.setCreatedAt(at);
+            }
+            state.getCards().put(move.cardId(), card);
+        }
+
+        FlowMetricsState.ListStats to = state.list(move.toListId());
+        to.setEntered(to.getEntered() + 1);
+
+        if (start.contains(move.toListId()) && card.getStartedAt() == null) {
+            card.setStartedAt(at);
+        }
+
+        if (done.contains(move.toListId())) {
+            state.setCompleted(state.getCompleted() + 1);
+            Double leadSeconds = card.getCreatedAt() != null ? (at - card.getCreatedAt()) / 1000.0 : null;
+            Double cycleSeconds = card.getStartedAt() != null ? (at - card.getStartedAt()) / 1000.0 : null;
+            if (leadSeconds != null) {
+                state.getLeadTime().add(leadSeconds);
+            }
+            if (cycleSeconds != null) {
+                state.getCycleTime().add(cycleSeconds);
+            }
+
+            Map<String, Object> completion = new LinkedHashMap<>();
+            completion.put("cardId", move.cardId());
+            completion.put("completedAt", move.date().toString());
+            completion.put("leadTimeHours", leadSeconds != null ? leadSeconds / SECONDS_PER_HOUR : null);
+            completion.put("cycleTimeHours", cycleSeconds != null ? cycleSeconds / SECONDS_PER_HOUR : null);
+
+            // Finished cards leave the state; one moved back out of done is tracked again from that move
+            state.getCards().remove(move.cardId());
+            return completion;
+        }
+
+        to.setWip(to.getWip() + 1);
+        card.setListId(move.toListId());
+        card.setEnteredAt(at);
+        return null;
+    }
+
+    /**
+     * Replays the card creations, list moves, and removals newer than the state's checkpoint, oldest first, and
+     * advances the checkpoint to the newest action read. Trello returns actions newest first, so pages are read back
+     * with {@code before}; every full page of moves is spilled to a temporary file and the files are replayed in
+     * reverse, so at most one page is held in memory however long the history. Actions at or below the checkpoint
+     * are dropped in case the server ignored {@code since}, so they are never counted twice.
+     */
+    private static int replayMoves(RunContext runContext, TrelloClient client, String boardId, FlowMetricsState state,
+        TrelloClient.ElementConsumer<Move> consumer) throws Exception {
+        String since = state.getCheckpoint();
+        List<Path> spilled = new ArrayList<>();
+        List<Move> page = new ArrayList<>();
+        String[] newest = new String[1];
+        int[] count = new int[1];
+
+        String endpoint = "boards/" + boardId + "/actions?filter=" + ACTIONS + "&fields=id,type,date,data"
+            + (since != null ? "&since=" + since : "");
+        try {
+            client.streamPages(endpoint, ACTIONS_PAGE_SIZE, FlowAction.class, FlowAction::id, since, "actions of board " + boardId, action -> {
+                if (newest[0] == null) {
+                    newest[0] = action.id();
+                }
+
+                Move move = Move.of(action);
+                if (move == null) {
+                    return;
+                }
+                page.add(move);
+                count[0]++;
+                if (page.size() == ACTIONS_PAGE_SIZE) {
+                    spilled.add(spill(runContext, page));
+                    page.clear();
+                }
+            });
+
+            // The page still in memory holds the oldest moves, and the first spilled file the newest
+            for (Move move : page.reversed()) {
+                consumer.accept(move);
+            }
+            for (Path file : spilled.reversed()) {
+                List<Move> moves;
+                try (Reader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)) {
+                    moves = FileSerde.readAll(reader, MOVE).collectList().block();
+                }
+                for (Move move : moves.reversed()) {
+                    consumer.accept(move);
+                }
+            }
+        } finally {
+            for (Path file : spilled) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        if (newest[0] != null) {
+            state.setCheckpoint(newest[0]);
+        }
+        return count[0];
+    }
+
+    private static Path spill(RunContext runContext, List<Move> moves) throws Exception {
+        Path file = runContext.workingDir().createTempFile(".ion");
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)) {
+            FileSerde.writeAll(writer, Flux.fromIterable(moves)).block();
+        }
+        return file;
+    }
+
+    // Card fields stay untyped so the `closed` flag of an update can be read
+    private record FlowAction(String id, String type, Instant date, Data data) {
+        private record Data(Map<String, Object> card, TrelloRef list, TrelloRef listAfter, Map<String, Object> old) {
+        }
+    }
+
+    // A card entering a list, from a creation or a list change, or leaving the board when toListId is null
+    private record Move(String actionId, Instant date, String cardId, boolean created, String toListId) {
+        static Move of(FlowAction action) {
+            FlowAction.Data data = action.data();
+            if (data == null || data.card() == null || !(data.card().get("id") instanceof String cardId)) {
+                return null;
+            }
+
+            Map<String, Object> old = data.old() != null ? data.old() : Map.of();
+            return switch (action.type()) {
+                case "createCard" -> {
+                    String listId = id(data.list());
+                    yield listId != null ? new Move(action.id(), action.date(), cardId, true, listId) : null;
+                }
+                case "deleteCard", "moveCardFromBoard" -> new Move(action.id(), action.date(), cardId, false, null);
+                case "updateCard" -> {
+                    if (Boolean.TRUE.equals(data.card().get("closed"))) {
+                        yield new Move(action.id(), action.date(), cardId, false, null);
+                    }
+                    // A reopened card comes back into the list it was archived from
+                    String to = old.containsKey("closed") ? id(data.list()) : id(data.listAfter());
+                    yield to != null ? new Move(action.id(), action.date(), cardId, false, to) : null;
+                }
+                default -> null;
+            };
+        }
+
+        private static String id(TrelloRef ref) {
+            return ref != null ? ref.id() : null;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Percentiles {
+        @Schema(title = "Median", description = "50th percentile, in hours")
+        private final Double p50;
+
+        @Schema(title = "85th Percentile", description = "In hours")
+        private final Double p85;
+
+        @Schema(title = "95th Percentile", description = "In hours")
+        private final Double p95;
+
+        @Schema(title = "Samples", description = "Number of values behind the percentiles")
+        private final Long count;
+
+        static Percentiles of(QuantileSketch sketch) {
+            return Percentiles.builder()
+                .p50(hours(sketch.quantile(0.5)))
+                .p85(hours(sketch.quantile(0.85)))
+                .p95(hours(sketch.quantile(0.95)))
+                .count(sketch.getCount())
+                .build();
+        }
+
+        private static Double hours(Double seconds) {
+            return seconds == null ? null : Math.round(seconds / SECONDS_PER_HOUR * 100) / 100.0;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class ListMetrics {
+        @Schema(title = "List ID")
+        private final String listId;
+
+        @Schema(title = "Work in Progress", description = "Cards currently in the list, among those whose arrival was processed; not reported for done lists")
+        private final Long wip;
+
+        @Schema(title = "Entered", description = "Cards that entered the list")
+        private final Long entered;
+
+        @Schema(title = "Exited", description = "Cards that left the list")
+        private final Long exited;
+
+        @Schema(title = "Time in List", description = "Time spent in the list by cards that left it")
+        private final Percentiles timeInList;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Actions Processed", description = "Card creations and list moves read during this run")
+        private final Integer actionsProcessed;
+
+        @Schema(title = "Throughput", description = "Cards that reached a done list during this run")
+        private final Integer throughput;
+
+        @Schema(title = "Completed Total", description = "Cards that reached a done list since the state was created")
+        private final Long completedTotal;
+
+        @Schema(title = "Lead Time", description = "From card creation to a done list")
+        private final Percentiles leadTime;
+
+        @Schema(title = "Cycle Time", description = "From the first start list to a done list; only set with `startListIds`")
+        private final Percentiles cycleTime;
+
+        @Schema(title = "Lists", description = "Per-list flow metrics")
+        private final List<ListMetrics> lists;
+
+        @Schema(title = "Details URI", description = "Internal storage URI of the completed cards file, when `store` is `true`")
+        private final URI uri;
+    }
+}
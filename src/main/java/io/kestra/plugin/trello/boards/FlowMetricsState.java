@@ -0,0 +1,80 @@
+package io.kestra.plugin.trello.boards;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Running flow aggregates of one board, persisted between runs: where each in-progress card sits since when, and
+ * per-list and board-wide counters and sketches. Cards are dropped once they reach a done list or are archived,
+ * deleted, or moved to another board, so the state grows with the work in progress, not with the history.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+final class FlowMetricsState {
+    private static final int FORMAT_VERSION = 1;
+
+    private int version = FORMAT_VERSION;
+    private String checkpoint;
+    private Map<String, CardPosition> cards = new HashMap<>();
+    private Map<String, ListStats> lists = new HashMap<>();
+    private QuantileSketch leadTime = new QuantileSketch();
+    private QuantileSketch cycleTime = new QuantileSketch();
+    private long completed;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static final class CardPosition {
+        private String listId;
+        // Epoch milliseconds; null when the card entered the list before the processed history
+        private Long enteredAt;
+        private Long createdAt;
+        private Long startedAt;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static final class ListStats {
+        private long entered;
+        private long exited;
+        private long wip;
+        // Seconds spent in the list by cards that left it
+        private QuantileSketch dwell = new QuantileSketch();
+    }
+
+    ListStats list(String listId) {
+        return lists.computeIfAbsent(listId, id -> new ListStats());
+    }
+
+    String serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            JacksonMapper.ofJson().writeValue(out, this);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    static FlowMetricsState deserialize(String value) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+            FlowMetricsState state = JacksonMapper.ofJson().readValue(in, FlowMetricsState.class);
+            // A state written by another format version is rebuilt from the full history
+            return state.version == FORMAT_VERSION ? state : new FlowMetricsState();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package io.kestra.plugin.trello.boards;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.StateStore;
+import io.kestra.plugin.trello.client.BoundedParallel;
+import io.kestra.plugin.trello.client.TrelloAction;
+import io.kestra.plugin.trello.client.TrelloClient;
+import io.kestra.plugin.trello.client.TrelloRef;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Mirror a Trello board into another board",
+    description = "One-way incremental mirror: reads the source board's actions since the last checkpoint, then creates, updates, moves, or archives only the matching cards on the target board with parallel writes. " +
+        "Lists are mapped by `listMapping` or else by name. The checkpoint and the source-to-target card ID map are kept in the namespace KV store, so each run costs requests in proportion to the changes. " +
+        "The first run, without a checkpoint, copies every open card of the source board"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Mirror a customer-facing board into an internal board every 10 minutes",
+            full = true,
+            code = """
+                id: trello_mirror_board
+                namespace: company.team
+
+                tasks:
+                  - id: mirror
+                    type: io.kestra.plugin.trello.boards.Mirror
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    sourceBoardId: "5abbe4b7ddc1b351ef961400"
+                    targetBoardId: "5abbe4b7ddc1b351ef961401"
+                    listMapping:
+                      "Customer requests": "Inbox"
+
+                triggers:
+                  - id: schedule
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "*/10 * * * *"
+                """
+        )
+    }
+)
+public class Mirror extends AbstractTrelloTask {
+    private static final String CHECKPOINT_STATE = "checkpoint";
+
+    private static final String CARD_STATE_PREFIX = "card_";
+
+    private static final int ACTIONS_PAGE_SIZE = 1000;
+
+    private static final String CARD_ACTIONS = "createCard,copyCard,updateCard,moveCardToBoard,moveCardFromBoard,convertToCardFromCheckItem,deleteCard";
+
+    private static final String MIRRORED_FIELDS = "name,desc,idList,closed,due";
+
+    @Schema(title = "Source Board ID", description = "Board whose changes are mirrored")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<String> sourceBoardId;
+
+    @Schema(title = "Target Board ID", description = "Board that receives the mirrored cards")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<String> targetBoardId;
+
+    @Schema(title = "List Mapping", description = "Source list name or ID to target list name or ID. Source lists not listed here are mapped to the target list with the same name; cards in lists without a match are skipped, and their existing mirrors archived")
+    @PluginProperty(group = "advanced")
+    protected Property<Map<String, String>> listMapping;
+
+    @Schema(title = "State Key", description = "Key of the checkpoint and card map in the namespace KV store. Defaults to `<sourceBoardId>_<targetBoardId>`; change it to start a fresh mirror")
+    @PluginProperty(group = "advanced")
+    protected Property<String> stateKey;
+
+    @Schema(title = "Max Concurrency", description = "Most cards written at once. Defaults to `4`")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> maxConcurrency = Property.ofValue(4);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String rSource = runContext.render(this.sourceBoardId).as(String.class).orElseThrow();
+        String rTarget = runContext.render(this.targetBoardId).as(String.class).orElseThrow();
+        Map<String, String> rListMapping = runContext.render(this.listMapping).asMap(String.class, String.class);
+        String rStateKey = runContext.render(this.stateKey).as(String.class).orElse(rSource + "_" + rTarget);
+        int rMaxConcurrency = runContext.render(this.maxConcurrency).as(Integer.class).orElse(4);
+
+        StateStore state = StateStore.ofTask(runContext, "mirror", rStateKey);
+        Optional<String> checkpoint = state.get(CHECKPOINT_STATE);
+
+        try (TrelloClient client = client(runContext)) {
+            Map<String, String> lists = mapLists(client, rSource, rTarget, rListMapping);
+
+            // Cards changed since the checkpoint, with the newest action ID as the next checkpoint
+            Set<String> changed = new LinkedHashSet<>();
+            Set<String> deleted = new LinkedHashSet<>();
+            String nextCheckpoint;
+            if (checkpoint.isPresent()) {
+                nextCheckpoint = readChanges(client, rSource, checkpoint.get(), changed, deleted);
+            } else {
+                // Taken before the copy so changes made during it are picked up by the next run
+                nextCheckpoint = latestActionId(client, rSource);
+                client.stream("boards/" + rSource + "/cards?filter=open&fields=id", TrelloRef.class, "cards of board " + rSource,
+                    card -> changed.add(card.id()));
+                runContext.logger().info("No checkpoint for mirror '{}', copying {} open cards", rStateKey, changed.size());
+            }
+            changed.removeAll(deleted);
+
+            List<Callable<Result>> writes = new ArrayList<>();
+            changed.forEach(cardId -> writes.add(() -> mirrorCard(runContext, client, state, cardId, lists)));
+            deleted.forEach(cardId -> writes.add(() -> archiveMirror(client, state, cardId)));
+
+            Map<Result, Integer> counts = new HashMap<>();
+            BoundedParallel.invokeAll(writes, rMaxConcurrency).forEach(result -> counts.merge(result, 1, Integer::sum));
+
+            // Only stored once every write succeeded, so a failed run is retried from the same actions
+            if (nextCheckpoint != null) {
+                state.put(CHECKPOINT_STATE, nextCheckpoint);
+            }
+
+            Output output = Output.builder()
+                .created(counts.getOrDefault(Result.CREATED, 0))
+                .updated(counts.getOrDefault(Result.UPDATED, 0))
+                .archived(counts.getOrDefault(Result.ARCHIVED, 0))
+                .skipped(counts.getOrDefault(Result.SKIPPED, 0))
+                .checkpoint(nextCheckpoint != null ? nextCheckpoint : checkpoint.orElse(null))
+                .build();
+
+            runContext.metric(Counter.of("cards.created", output.getCreated()));
+            runContext.metric(Counter.of("cards.updated", output.getUpdated()));
+            runContext.metric(Counter.of("cards.archived", output.getArchived()));
+            runContext.logger().info("Mirrored {} changed cards: {} created, {} updated, {} archived, {} skipped",
+                writes.size(), output.getCreated(), output.getUpdated(), output.getArchived(), output.getSkipped());
+
+            return output;
+        }
+    }
+
+    /**
+     * Reads the source board actions newer than the checkpoint, newest first, paging back with {@code before}.
+     * Returns the newest action ID, or {@code null} when nothing happened.
+     */
+    private static String readChanges(TrelloClient client, String boardId, String since, Set<String> changed,
+        Set<String> deleted) throws Exception {
+        String[] newest = {null};
+
+        String endpoint = "boards/" + boardId + "/actions?filter=" + CARD_ACTIONS + "&fields=id,type,data&since=" + since;
+        client.streamPages(endpoint, ACTIONS_PAGE_SIZE, TrelloAction.class, TrelloAction::id, null, "actions of board " + boardId, action -> {
+            if (newest[0] == null) {
+                newest[0] = action.id();
+            }
+
+            String cardId = action.cardId();
+            // Actions come newest first, so the first one seen for a card decides whether it still exists
+            if (cardId != null && !changed.contains(cardId) && !deleted.contains(cardId)) {
+                if ("deleteCard".equals(action.type()) || "moveCardFromBoard".equals(action.type())) {
+                    deleted.add(cardId);
+                } else {
+                    changed.add(cardId);
+                }
+            }
+        });
+
+        return newest[0];
+    }
+
+    private static String latestActionId(TrelloClient client, String boardId) throws Exception {
+        List<TrelloRef> actions = client.getList("boards/" + boardId + "/actions?fields=id&limit=1", TrelloRef.class, "actions of board " + boardId);
+        return actions.isEmpty() ? null : actions.getFirst().id();
+    }
+
+    private static Map<String, String> mapLists(TrelloClient client, String source, String target,
+        Map<String, String> mapping) throws Exception {
+        List<TrelloRef> sourceLists = client.getList("boards/" + source + "/lists?fields=id,name", TrelloRef.class, "lists of board " + source);
+        List<TrelloRef> targetLists = client.getList("boards/" + target + "/lists?fields=id,name", TrelloRef.class, "lists of board " + target);
+
+        Map<String, String> targetIds = new HashMap<>();
+        for (TrelloRef list : targetLists) {
+            targetIds.put(list.id(), list.id());
+            targetIds.putIfAbsent(list.name(), list.id());
+        }
+
+        Map<String, String> lists = new HashMap<>();
+        for (TrelloRef list : sourceLists) {
+            String mapped = mapping.getOrDefault(list.id(), mapping.getOrDefault(list.name(), list.name()));
+            if (targetIds.containsKey(mapped)) {
+                lists.put(list.id(), targetIds.get(mapped));
+            }
+        }
+
+        return lists;
+    }
+
+    private static Result mirrorCard(RunContext runContext, TrelloClient client, StateStore state, String cardId,
+        Map<String, String> lists) throws Exception {
+        MirroredCard card = client.get("cards/" + cardId + "?fields=" + MIRRORED_FIELDS, MirroredCard.class, "card " + cardId);
+        String targetList = lists.get(card.idList());
+        Optional<String> targetCard = state.get(CARD_STATE_PREFIX + cardId);
+
+        if (targetList == null) {
+            // A mirror left open would keep showing the card in its previous list
+            if (targetCard.isPresent()) {
+                runContext.logger().warn("Archiving the mirror of card {}: its list has no match on the target board anymore", cardId);
+                return archiveMirror(client, state, cardId);
+            }
+            runContext.logger().warn("Skipping card {}: its list has no match on the target board", cardId);
+            return Result.SKIPPED;
+        }
+
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", card.name());
+        fields.put("desc", card.desc() != null ? card.desc() : "");
+        fields.put("idList", targetList);
+        fields.put("closed", card.closed());
+        fields.put("due", card.due());
+
+        if (targetCard.isPresent()) {
+            client.send("PUT", "cards/" + targetCard.get(), fields, Void.class, "update mirrored card " + targetCard.get());
+            return Result.UPDATED;
+        }
+
+        TrelloRef created = client.send("POST", "cards", fields, TrelloRef.class, "create mirror of card " + cardId);
+        if (created == null || created.id() == null) {
+            throw new IllegalStateException("Failed to create mirror of card " + cardId + ": Trello returned no card ID");
+        }
+        state.put(CARD_STATE_PREFIX + cardId, created.id());
+        return Result.CREATED;
+    }
+
+    private static Result archiveMirror(TrelloClient client, StateStore state, String cardId) throws Exception {
+        Optional<String> targetCard = state.get(CARD_STATE_PREFIX + cardId);
+        if (targetCard.isEmpty()) {
+            return Result.SKIPPED;
+        }
+
+        client.send("PUT", "cards/" + targetCard.get(), Map.of("closed", true), Void.class, "archive mirrored card " + targetCard.get());
+        state.delete(CARD_STATE_PREFIX + cardId);
+        return Result.ARCHIVED;
+    }
+
+    // The card fields copied to the mirror, as listed in MIRRORED_FIELDS
+    private record MirroredCard(String id, String name, String desc, String idList, boolean closed, String due) {
+    }
+
+    private enum Result {
+        CREATED,
+        UPDATED,
+        ARCHIVED,
+        SKIPPED
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Created Cards", description = "Cards created on the target board")
+        private final Integer created;
+
+        @Schema(title = "Updated Cards", description = "Mirrored cards updated or moved on the target board")
+        private final Integer updated;
+
+        @Schema(title = "Archived Cards", description = "Mirrored cards archived because their source card was deleted, moved off the board, or moved to a list without a match on the target board")
+        private final Integer archived;
+
+        @Schema(title = "Skipped Cards", description = "Changed cards left out, for example because their list has no match on the target board")
+        private final Integer skipped;
+
+        @Schema(title = "Checkpoint", description = "ID of the newest source board action covered by this run")
+        private final String checkpoint;
+    }
+}
@@ -0,0 +1,57 @@
+package io.kestra.plugin.trello.boards;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Mergeable quantile sketch with 1% relative error: positive values are counted in logarithmic buckets, so its size
+ * depends on the spread of the values (a few hundred buckets from seconds to years), not on how many were added.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+final class QuantileSketch {
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // Bucket index to count; values at or below 1 all land in the zero count
+    private TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    void add(double value) {
+        count++;
+        if (value <= 1) {
+            zeroCount++;
+            return;
+        }
+        buckets.merge((int) Math.ceil(Math.log(value) / LOG_GAMMA), 1L, Long::sum);
+    }
+
+    /** Approximate value at quantile {@code q} (between 0 and 1), or {@code null} when nothing was added. */
+    Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.floor(q * (count - 1));
+        if (rank < zeroCount) {
+            return 0.0;
+        }
+
+        long seen = zeroCount;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return 2 * Math.pow(GAMMA, bucket.getKey()) / (GAMMA + 1);
+            }
+        }
+
+        return 2 * Math.pow(GAMMA, buckets.lastKey()) / (GAMMA + 1);
+    }
+}
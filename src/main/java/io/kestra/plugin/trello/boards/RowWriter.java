@@ -0,0 +1,91 @@
+package io.kestra.plugin.trello.boards;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+
+import io.kestra.core.serializers.FileSerde;
+
+/**
+ * Writes rows to a file as they arrive. Avro rows are buffered into compressed blocks of about 64 KB that are flushed
+ * as soon as they fill up, so memory stays bounded whatever the number of rows.
+ */
+abstract class RowWriter implements Closeable {
+    private int count;
+
+    static RowWriter open(ExportFormat format, Path file, Schema schema) throws IOException {
+        return switch (format) {
+            case ION -> new Ion(file);
+            case AVRO -> new Avro(file, schema);
+        };
+    }
+
+    void write(Map<String, Object> row) throws IOException {
+        doWrite(row);
+        count++;
+    }
+
+    int count() {
+        return count;
+    }
+
+    protected abstract void doWrite(Map<String, Object> row) throws IOException;
+
+    private static final class Ion extends RowWriter {
+        private final OutputStream output;
+
+        Ion(Path file) throws IOException {
+            this.output = new BufferedOutputStream(Files.newOutputStream(file), FileSerde.BUFFER_SIZE);
+        }
+
+        @Override
+        protected void doWrite(Map<String, Object> row) throws IOException {
+            FileSerde.write(output, row);
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
+    private static final class Avro extends RowWriter {
+        private final Schema schema;
+        private final DataFileWriter<GenericRecord> writer;
+
+        Avro(Path file, Schema schema) throws IOException {
+            this.schema = schema;
+            this.writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(schema));
+            this.writer.setCodec(CodecFactory.deflateCodec(6));
+            this.writer.create(schema, file.toFile());
+        }
+
+        @Override
+        protected void doWrite(Map<String, Object> row) throws IOException {
+            GenericRecord record = new GenericData.Record(schema);
+            // Rows carry the schema fields; instants go to the `timestamp-millis` columns as epoch milliseconds
+            for (Schema.Field field : schema.getFields()) {
+                Object value = row.get(field.name());
+                record.put(field.name(), value instanceof Instant instant ? instant.toEpochMilli() : value);
+            }
+            writer.append(record);
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
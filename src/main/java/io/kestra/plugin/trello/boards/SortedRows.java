@@ -0,0 +1,206 @@
+package io.kestra.plugin.trello.boards;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Reads the rows of an ION file in ascending order of a key field, holding at most one sort buffer of rows in memory.
+ * Files already in key order are streamed as they are; others are sorted in buffer-sized runs written to temporary
+ * files, then k-way merged.
+ */
+final class SortedRows implements Closeable {
+    private static final TypeReference<Map<String, Object>> ROW = new TypeReference<>() {};
+
+    private final List<Run> runs = new ArrayList<>();
+    private final PriorityQueue<Run> heads;
+
+    private SortedRows() {
+        this.heads = new PriorityQueue<>(Comparator.comparing(Run::key));
+    }
+
+    interface Source {
+        InputStream open() throws IOException;
+    }
+
+    static SortedRows open(RunContext runContext, Source source, String keyField, int bufferSize) throws IOException {
+        SortedRows rows = new SortedRows();
+
+        try {
+            if (isSorted(source, keyField)) {
+                rows.add(new Run(reader(source.open()), keyField));
+            } else {
+                for (Path file : writeSortedRuns(runContext, source, keyField, bufferSize)) {
+                    rows.add(new Run(reader(Files.newInputStream(file)), keyField));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            rows.close();
+            throw e;
+        }
+
+        return rows;
+    }
+
+    /** The row with the smallest key, or {@code null} once every row was read. */
+    Map<String, Object> peek() {
+        Run head = heads.peek();
+        return head != null ? head.row : null;
+    }
+
+    String peekKey() {
+        Run head = heads.peek();
+        return head != null ? head.key() : null;
+    }
+
+    void advance() throws IOException {
+        Run head = heads.poll();
+        if (head != null && head.advance()) {
+            heads.add(head);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (Run run : runs) {
+            try {
+                run.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void add(Run run) throws IOException {
+        runs.add(run);
+        if (run.advance()) {
+            heads.add(run);
+        }
+    }
+
+    private static boolean isSorted(Source source, String keyField) throws IOException {
+        try (BufferedReader reader = reader(source.open()); Stream<Map<String, Object>> rows = rows(reader)) {
+            String previous = null;
+            for (Iterator<Map<String, Object>> it = rows.iterator(); it.hasNext(); ) {
+                String key = key(it.next(), keyField);
+                if (previous != null && previous.compareTo(key) > 0) {
+                    return false;
+                }
+                previous = key;
+            }
+        }
+        return true;
+    }
+
+    private static List<Path> writeSortedRuns(RunContext runContext, Source source, String keyField, int bufferSize) throws IOException {
+        List<Path> files = new ArrayList<>();
+        List<Map<String, Object>> buffer = new ArrayList<>(bufferSize);
+
+        try (BufferedReader reader = reader(source.open()); Stream<Map<String, Object>> rows = rows(reader)) {
+            for (Iterator<Map<String, Object>> it = rows.iterator(); it.hasNext(); ) {
+                buffer.add(it.next());
+                if (buffer.size() >= bufferSize) {
+                    files.add(writeRun(runContext, buffer, keyField));
+                    buffer.clear();
+                }
+            }
+        }
+
+        if (!buffer.isEmpty()) {
+            files.add(writeRun(runContext, buffer, keyField));
+        }
+
+        return files;
+    }
+
+    private static Path writeRun(RunContext runContext, List<Map<String, Object>> buffer, String keyField) throws IOException {
+        buffer.sort(Comparator.comparing(row -> key(row, keyField)));
+
+        Path file = runContext.workingDir().createTempFile(".ion");
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)) {
+            FileSerde.writeAll(writer, Flux.fromIterable(buffer)).block();
+        }
+        return file;
+    }
+
+    private static BufferedReader reader(InputStream inputStream) {
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE);
+    }
+
+    // Rows are parsed as they are pulled, a small prefetch at a time, so a run never sits in memory whole
+    private static Stream<Map<String, Object>> rows(BufferedReader reader) throws IOException {
+        return FileSerde.readAll(reader, ROW).toStream();
+    }
+
+    private static String key(Map<String, Object> row, String keyField) {
+        Object key = row.get(keyField);
+        if (key == null) {
+            throw new IllegalArgumentException("Snapshot row without `" + keyField + "`: " + row);
+        }
+        return key.toString();
+    }
+
+    private static final class Run implements Closeable {
+        private final BufferedReader reader;
+        private final Stream<Map<String, Object>> rows;
+        private final Iterator<Map<String, Object>> iterator;
+        private final String keyField;
+        private Map<String, Object> row;
+        private String key;
+
+        Run(BufferedReader reader, String keyField) throws IOException {
+            this.reader = reader;
+            this.rows = SortedRows.rows(reader);
+            this.iterator = rows.iterator();
+            this.keyField = keyField;
+        }
+
+        boolean advance() {
+            if (!iterator.hasNext()) {
+                row = null;
+                key = null;
+                return false;
+            }
+
+            row = iterator.next();
+            key = SortedRows.key(row, keyField);
+            return true;
+        }
+
+        String key() {
+            return key;
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+@PluginSubGroup(
+    title = "Trello Boards",
+    description = "This sub-group of plugins contains tasks that work on whole Trello boards.",
+    categories = PluginSubGroup.PluginCategory.BUSINESS
+)
+package io.kestra.plugin.trello.boards;
+
+import io.kestra.core.models.annotations.PluginSubGroup;
@@ -0,0 +1,318 @@
+package io.kestra.plugin.trello.cards;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.PollingTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.trello.AbstractTrelloTrigger;
+import io.kestra.plugin.trello.StateStore;
+import io.kestra.plugin.trello.client.TrelloClient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Trigger on selected Trello action types",
+    description = "Polls the `actions` endpoint of a board and of lists, asking Trello for the chosen `actionTypes` only through its `filter` query parameter, and starts an execution with the matching actions and their payload, such as the text of a comment. " +
+        "The newest emitted action ID of each board or list is kept in the namespace KV store and sent as `since` on the next poll; the first poll of a source looks back one `interval`"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Start a flow for every new comment or completed checklist item on a board",
+            full = true,
+            code = """
+                id: trello_card_events
+                namespace: company.team
+
+                tasks:
+                  - id: log_actions
+                    type: io.kestra.plugin.core.flow.ForEach
+                    values: "{{ trigger.actions }}"
+                    tasks:
+                      - id: log
+                        type: io.kestra.plugin.core.log.Log
+                        message: "{{ taskrun.value }}"
+
+                triggers:
+                  - id: card_events
+                    type: io.kestra.plugin.trello.cards.ActionTrigger
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardId: "5abbe4b7ddc1b351ef961416"
+                    actionTypes:
+                      - commentCard
+                      - updateCheckItemStateOnCard
+                """
+        ),
+        @Example(
+            title = "React to members being added to cards of one list",
+            full = true,
+            code = """
+                id: trello_member_added
+                namespace: company.team
+
+                tasks:
+                  - id: log_members
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.count }} members added"
+
+                triggers:
+                  - id: member_added
+                    type: io.kestra.plugin.trello.cards.ActionTrigger
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    lists:
+                      - "5abbe4b7ddc1b351ef961417"
+                    actionTypes:
+                      - addMemberToCard
+                    interval: PT1M
+                """
+        )
+    }
+)
+public class ActionTrigger extends AbstractTrelloTrigger implements PollingTriggerInterface, TriggerOutput<ActionTrigger.Output> {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final String ACTION_FIELDS = "id,type,date,data,idMemberCreator";
+
+    private static final String WATERMARKS_STATE = "action_watermarks";
+
+    private static final String BOARD_SOURCE = "board:";
+
+    private static final String LIST_SOURCE = "list:";
+
+    @Schema(title = "Action Types", description = "Trello action types to subscribe to, for example `commentCard`, `updateCheckItemStateOnCard`, or `addMemberToCard`. Sent to Trello as the `filter` query parameter, so other actions are never downloaded")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<List<String>> actionTypes;
+
+    @Schema(title = "Board ID", description = "Trello board whose actions are polled")
+    @PluginProperty(group = "advanced")
+    protected Property<String> boardId;
+
+    @Schema(title = "List IDs", description = "Trello lists whose actions are polled. An action seen through both the board and a list is emitted once")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> lists;
+
+    @Schema(title = "Max Actions per Evaluation", description = "Maximum number of actions emitted by one evaluation. Older actions are emitted first and the rest is caught up by the following evaluations. Defaults to `500`")
+    @PluginProperty(group = "execution")
+    @Builder.Default
+    protected Property<Integer> maxActionsPerEvaluation = Property.ofValue(500);
+
+    @Schema(title = "Polling Interval", description = "Time between Trello checks. Defaults to `PT5M`")
+    @PluginProperty(group = "execution")
+    @Builder.Default
+    private Duration interval = Duration.ofMinutes(5);
+
+    @Override
+    public Duration getInterval() {
+        return this.interval;
+    }
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+
+        List<String> rActionTypes = runContext.render(this.actionTypes).asList(String.class);
+        String rBoardId = runContext.render(this.boardId).as(String.class).orElse(null);
+        List<String> rLists = runContext.render(this.lists).asList(String.class);
+        int rMaxActions = runContext.render(this.maxActionsPerEvaluation).as(Integer.class).orElse(500);
+
+        if (rActionTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one action type is required");
+        }
+        if (rBoardId == null && rLists.isEmpty()) {
+            throw new IllegalArgumentException("Either `boardId` or `lists` must be set");
+        }
+
+        List<String> sources = new ArrayList<>();
+        if (rBoardId != null) {
+            sources.add(BOARD_SOURCE + rBoardId);
+        }
+        rLists.forEach(listId -> sources.add(LIST_SOURCE + listId));
+
+        // Sources polled for the first time start from the previous interval window, then from their newest emitted action
+        Instant lastCheckTime = context.getNextExecutionDate() != null
+            ? context.getNextExecutionDate().toInstant().minus(this.interval)
+            : Instant.now().minus(this.interval);
+
+        StateStore stateStore = StateStore.ofTrigger(runContext, context);
+        Map<String, String> watermarks = readWatermarks(stateStore);
+
+        // Actions are keyed by ID so one reachable from the board and a list is only emitted once
+        Map<String, SubscribedAction> actions = new HashMap<>();
+        Map<String, List<String>> actionSources = new HashMap<>();
+        try (TrelloClient client = client(runContext)) {
+            for (String source : sources) {
+                String since = watermarks.getOrDefault(source, lastCheckTime.toString());
+                String endpoint = (source.startsWith(BOARD_SOURCE)
+                    ? "boards/" + source.substring(BOARD_SOURCE.length())
+                    : "lists/" + source.substring(LIST_SOURCE.length()))
+                    + "/actions?filter=" + String.join(",", rActionTypes) + "&fields=" + ACTION_FIELDS + "&memberCreator=false&since=" + since;
+
+                for (SubscribedAction action : readActions(client, endpoint, source, watermarks.get(source))) {
+                    actions.putIfAbsent(action.id(), action);
+                    actionSources.computeIfAbsent(action.id(), id -> new ArrayList<>()).add(source);
+                }
+            }
+        }
+
+        // Oldest first, so a source's watermark never passes an action that was left for the next evaluation
+        List<SubscribedAction> chunk = actions.values().stream()
+            .sorted(Comparator.comparing(SubscribedAction::date).thenComparing(SubscribedAction::id))
+            .limit(rMaxActions)
+            .toList();
+
+        if (chunk.isEmpty()) {
+            runContext.logger().info("No new {} actions found", String.join(", ", rActionTypes));
+            return Optional.empty();
+        }
+
+        for (SubscribedAction action : chunk) {
+            for (String source : actionSources.get(action.id())) {
+                watermarks.merge(source, action.id(), (current, id) -> id.compareTo(current) > 0 ? id : current);
+            }
+        }
+        writeWatermarks(stateStore, watermarks);
+
+        if (chunk.size() < actions.size()) {
+            runContext.logger().info(
+                "Found {} new actions, emitting the {} oldest and catching up on the rest in the next evaluations",
+                actions.size(), chunk.size()
+            );
+        } else {
+            runContext.logger().info("Found {} new actions", actions.size());
+        }
+
+        Output output = Output.builder()
+            .count(chunk.size())
+            .actions(chunk.stream().map(SubscribedAction::toData).toList())
+            .build();
+
+        return Optional.of(TriggerService.generateExecution(this, conditionContext, context, output));
+    }
+
+    /**
+     * Every action of {@code endpoint}, which Trello returns newest first, read back page by page with {@code before}.
+     * Actions at or below {@code watermark} are dropped in case the server ignored {@code since}.
+     */
+    private static List<SubscribedAction> readActions(TrelloClient client, String endpoint, String source, String watermark) throws Exception {
+        List<SubscribedAction> actions = new ArrayList<>();
+
+        client.streamPages(endpoint, PAGE_SIZE, SubscribedAction.class, SubscribedAction::id, watermark, "actions of " + source, action -> {
+            if (action.date() != null) {
+                actions.add(action);
+            }
+        });
+
+        return actions;
+    }
+
+    private static Map<String, String> readWatermarks(StateStore stateStore) throws Exception {
+        Optional<String> stored = stateStore.get(WATERMARKS_STATE);
+        if (stored.isEmpty()) {
+            return new HashMap<>();
+        }
+        return JacksonMapper.ofJson().readValue(stored.get(), new TypeReference<HashMap<String, String>>() {});
+    }
+
+    private static void writeWatermarks(StateStore stateStore, Map<String, String> watermarks) throws Exception {
+        stateStore.put(WATERMARKS_STATE, JacksonMapper.ofJson().writeValueAsString(new TreeMap<>(watermarks)));
+    }
+
+    // The action as returned by Trello, with its type-specific data kept whole
+    private record SubscribedAction(String id, String type, Instant date, String idMemberCreator, Map<String, Object> data) {
+        ActionData toData() {
+            Map<String, Object> rData = data != null ? data : Map.of();
+
+            return ActionData.builder()
+                .actionId(id)
+                .type(type)
+                .date(date)
+                .memberCreatorId(idMemberCreator)
+                .boardId(refId(rData, "board"))
+                .cardId(refId(rData, "card"))
+                .listId(refId(rData, "list"))
+                .text(rData.get("text") instanceof String text ? text : null)
+                .data(new LinkedHashMap<>(rData))
+                .build();
+        }
+
+        private static String refId(Map<String, Object> data, String key) {
+            return data.get(key) instanceof Map<?, ?> ref && ref.get("id") instanceof String id ? id : null;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Action Count", description = "Number of actions in `actions`")
+        private final Integer count;
+
+        @Schema(title = "Actions", description = "Matching actions, oldest first")
+        private final List<ActionData> actions;
+    }
+
+    @Builder
+    @Getter
+    @Jacksonized
+    public static class ActionData {
+        @Schema(title = "Action ID", description = "Trello action ID")
+        private final String actionId;
+
+        @Schema(title = "Action Type", description = "Trello action type, for example `commentCard`")
+        private final String type;
+
+        @Schema(title = "Action Date", description = "When the action happened")
+        private final Instant date;
+
+        @Schema(title = "Member ID", description = "ID of the member who performed the action")
+        private final String memberCreatorId;
+
+        @Schema(title = "Board ID", description = "Board of the action, when Trello includes it")
+        private final String boardId;
+
+        @Schema(title = "Card ID", description = "Card of the action, for card actions")
+        private final String cardId;
+
+        @Schema(title = "List ID", description = "List of the action, when Trello includes it")
+        private final String listId;
+
+        @Schema(title = "Text", description = "Comment text, for `commentCard` actions")
+        private final String text;
+
+        @Schema(title = "Action Data", description = "Full `data` payload of the action as returned by Trello; its content depends on the action type")
+        private final Map<String, Object> data;
+    }
+}
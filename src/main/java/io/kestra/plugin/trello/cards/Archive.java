@@ -0,0 +1,223 @@
+package io.kestra.plugin.trello.cards;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.client.BoundedParallel;
+import io.kestra.plugin.trello.client.CircuitBreakerOpenException;
+import io.kestra.plugin.trello.client.QuotaExceededException;
+import io.kestra.plugin.trello.client.TrelloApiException;
+import io.kestra.plugin.trello.client.TrelloClient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Archive stale Trello cards across boards",
+    description = "Scans the open cards of one or more boards, reading only the fields needed for filtering, and archives those matching every filter set: no activity for `inactiveFor`, any of `labelIds`, any of `listIds`. " +
+        "At least one filter is required, so a task with only `boardIds` cannot archive whole boards. Cards are archived in parallel, and requests Trello rate limits are retried once its `Retry-After` delay has passed. `dryRun` is on by default and only counts matching cards; set it to `false` to archive them. A report of the matching cards is written to internal storage"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Archive cards untouched for 90 days on several boards",
+            full = true,
+            code = """
+                id: trello_archive_stale_cards
+                namespace: company.team
+
+                tasks:
+                  - id: archive_stale_cards
+                    type: io.kestra.plugin.trello.cards.Archive
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardIds:
+                      - "5abbe4b7ddc1b351ef961400"
+                      - "5abbe4b7ddc1b351ef961401"
+                    inactiveFor: P90D
+                    dryRun: false
+                    maxConcurrency: 8
+                """
+        ),
+        @Example(
+            title = "Count stale cards in a Done list without archiving them",
+            full = true,
+            code = """
+                id: trello_archive_dry_run
+                namespace: company.team
+
+                tasks:
+                  - id: count_stale_cards
+                    type: io.kestra.plugin.trello.cards.Archive
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardIds:
+                      - "5abbe4b7ddc1b351ef961400"
+                    listIds:
+                      - "5abbe4b7ddc1b351ef961414"
+                    inactiveFor: P30D
+                """
+        )
+    }
+)
+public class Archive extends AbstractTrelloTask {
+    // Only what the filters and the report need, which keeps responses of large boards small
+    private static final String CARD_FIELDS = "id,name,idList,idLabels,dateLastActivity,shortUrl";
+
+    @Schema(title = "Board IDs", description = "Boards whose open cards are scanned")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<List<String>> boardIds;
+
+    @Schema(title = "Inactive For", description = "Archive only cards whose last activity is older than this, for example `P90D`")
+    @PluginProperty(group = "main")
+    protected Property<Duration> inactiveFor;
+
+    @Schema(title = "Label IDs", description = "Archive only cards that carry any of these labels")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> labelIds;
+
+    @Schema(title = "List IDs", description = "Archive only cards in any of these lists")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> listIds;
+
+    @Schema(title = "Dry Run", description = "Count and report matching cards without archiving them. Defaults to `true`; set to `false` to archive")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Boolean> dryRun = Property.ofValue(true);
+
+    @Schema(title = "Max Concurrency", description = "Most boards scanned, then cards archived, at once. Defaults to `4`")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> maxConcurrency = Property.ofValue(4);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        List<String> rBoardIds = runContext.render(this.boardIds).asList(String.class);
+        List<String> rLabelIds = runContext.render(this.labelIds).asList(String.class);
+        List<String> rListIds = runContext.render(this.listIds).asList(String.class);
+        Duration rInactiveFor = runContext.render(this.inactiveFor).as(Duration.class).orElse(null);
+        boolean rDryRun = runContext.render(this.dryRun).as(Boolean.class).orElse(true);
+        int rMaxConcurrency = runContext.render(this.maxConcurrency).as(Integer.class).orElse(4);
+
+        // Without any filter every open card of the boards would match
+        if (rInactiveFor == null && rLabelIds.isEmpty() && rListIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one of `inactiveFor`, `labelIds`, or `listIds` must be set");
+        }
+
+        CardFilter filter = CardFilter.builder()
+            .labelIds(rLabelIds.isEmpty() ? null : new HashSet<>(rLabelIds))
+            .listIds(rListIds.isEmpty() ? null : new HashSet<>(rListIds))
+            .lastActivityBefore(rInactiveFor != null ? Instant.now().minus(rInactiveFor) : null)
+            .build();
+
+        try (TrelloClient client = client(runContext)) {
+            List<Callable<List<Map<String, Object>>>> scans = new ArrayList<>();
+            for (String boardId : rBoardIds) {
+                scans.add(() -> scanBoard(client, boardId, filter));
+            }
+
+            List<Map<String, Object>> matched = new ArrayList<>();
+            BoundedParallel.invokeAll(scans, rMaxConcurrency).forEach(matched::addAll);
+
+            int archived = 0;
+            if (!rDryRun) {
+                List<Callable<Boolean>> archives = new ArrayList<>();
+                for (Map<String, Object> card : matched) {
+                    archives.add(() -> archiveCard(runContext, client, (String) card.get("cardId")));
+                }
+
+                List<Boolean> results = BoundedParallel.invokeAll(archives, rMaxConcurrency);
+                for (int i = 0; i < results.size(); i++) {
+                    matched.get(i).put("archived", results.get(i));
+                    archived += results.get(i) ? 1 : 0;
+                }
+            }
+
+            URI report = BulkRows.writeReport(runContext, matched);
+
+            runContext.metric(Counter.of("cards.matched", matched.size()));
+            runContext.metric(Counter.of("cards.archived", archived));
+            if (rDryRun) {
+                runContext.logger().info("Dry run: {} cards on {} boards would be archived", matched.size(), rBoardIds.size());
+            } else {
+                runContext.logger().info("Archived {} of {} matching cards on {} boards", archived, matched.size(), rBoardIds.size());
+            }
+
+            return Output.builder()
+                .matched(matched.size())
+                .archived(archived)
+                .uri(report)
+                .build();
+        }
+    }
+
+    private List<Map<String, Object>> scanBoard(TrelloClient client, String boardId, CardFilter filter) throws Exception {
+        List<Map<String, Object>> matched = new ArrayList<>();
+
+        // Cards are checked as they are read, so only matching cards are kept in memory
+        client.stream("boards/" + boardId + "/cards?filter=open&fields=" + CARD_FIELDS, JsonNode.class, "cards of board " + boardId, card -> {
+            if (filter.matches(card)) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("boardId", boardId);
+                row.put("cardId", card.path("id").asText());
+                row.put("name", card.path("name").asText(null));
+                row.put("listId", card.path("idList").asText(null));
+                row.put("lastActivity", card.path("dateLastActivity").asText(null));
+                row.put("url", card.path("shortUrl").asText(null));
+                row.put("archived", false);
+                matched.add(row);
+            }
+        });
+
+        return matched;
+    }
+
+    private boolean archiveCard(RunContext runContext, TrelloClient client, String cardId) throws Exception {
+        // One card failing does not stop the cleanup; it shows up as not archived in the report. The same goes for an
+        // open circuit or an exhausted quota, so cards archived before it are still reported
+        try {
+            client.send("PUT", "cards/" + cardId, Map.of("closed", true), Void.class, "archive card " + cardId);
+            return true;
+        } catch (TrelloApiException | CircuitBreakerOpenException | QuotaExceededException e) {
+            runContext.logger().warn(e.getMessage());
+            return false;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Matched Cards", description = "Number of open cards matching the filters")
+        private final Integer matched;
+
+        @Schema(title = "Archived Cards", description = "Number of cards archived; always `0` in a dry run")
+        private final Integer archived;
+
+        @Schema(title = "Report URI", description = "Internal storage URI of an ION file with one row per matching card: `boardId`, `cardId`, `name`, `listId`, `lastActivity`, `url`, and `archived`")
+        private final URI uri;
+    }
+}
@@ -0,0 +1,419 @@
+package io.kestra.plugin.trello.cards;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Data;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.client.BoundedParallel;
+import io.kestra.plugin.trello.client.CircuitBreakerOpenException;
+import io.kestra.plugin.trello.client.QuotaExceededException;
+import io.kestra.plugin.trello.client.TrelloApiException;
+import io.kestra.plugin.trello.client.TrelloClient;
+import io.kestra.plugin.trello.client.TrelloRef;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Create checklists, add items, and set item states on many Trello cards",
+    description = "Applies one row of `from` per checklist change. Each row names a card and a checklist, and optionally an item and its `state`; missing checklists and items are created and existing items only get a request when their state differs, so running the same rows twice changes nothing. " +
+        "The checklists of each card are read once, then every item creation and state change goes out in parallel across all cards, with rate limited requests retried after Trello's `Retry-After` delay. A report with the outcome of each row is written to internal storage"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Tick the release checklist of several cards",
+            full = true,
+            code = """
+                id: trello_release_checklists
+                namespace: company.team
+
+                tasks:
+                  - id: release_checklists
+                    type: io.kestra.plugin.trello.cards.BulkChecklist
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    from:
+                      - cardId: "5abbe4b7ddc1b351ef961414"
+                        checklist: "Release"
+                        item: "Changelog updated"
+                        state: complete
+                      - cardId: "5abbe4b7ddc1b351ef961414"
+                        checklist: "Release"
+                        item: "Tag pushed"
+                        state: complete
+                      - cardId: "5abbe4b7ddc1b351ef961415"
+                        checklist: "Release"
+                        item: "Changelog updated"
+                """
+        ),
+        @Example(
+            title = "Apply checklist changes listed in a file produced by a previous task",
+            full = true,
+            code = """
+                id: trello_bulk_checklists_from_file
+                namespace: company.team
+
+                tasks:
+                  - id: bulk_checklists
+                    type: io.kestra.plugin.trello.cards.BulkChecklist
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    from: "{{ outputs.audit_steps.uri }}"
+                    maxConcurrency: 8
+                """
+        )
+    }
+)
+public class BulkChecklist extends AbstractTrelloTask implements Data.From {
+
+    private static final String COMPLETE = "complete";
+
+    private static final String INCOMPLETE = "incomplete";
+
+    private static final String CHECKLIST_FIELDS = "fields=id,name&checkItems=all&checkItem_fields=name,state,pos";
+
+    private static final double POSITION_STEP = 1024;
+
+    @Schema(
+        title = "Rows",
+        description = "Inline list of rows, a single row as a map, or the internal storage URI of an ION file with one row per line. Each row has a `cardId` and a `checklist` name, and optionally an `item` name and a `state` (`complete` or `incomplete`, only with `item`). " +
+            "A missing checklist or item is created, a new item without `state` starts incomplete, and an existing item without `state` is left as is",
+        anyOf = {String.class, List.class, Map.class}
+    )
+    @NotNull
+    @PluginProperty(dynamic = true, internalStorageURI = true, group = "main")
+    protected Object from;
+
+    @Schema(title = "Max Concurrency", description = "Most requests sent at once, across all cards. Defaults to `4`")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> maxConcurrency = Property.ofValue(4);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        int rMaxConcurrency = runContext.render(this.maxConcurrency).as(Integer.class).orElse(4);
+        List<Map<String, Object>> rows = BulkRows.read(runContext, this.from);
+
+        // Every row is checked before the first request, so a malformed file changes nothing
+        List<Map<String, Object>> results = new ArrayList<>(rows.size());
+        Map<String, List<Step>> stepsByCard = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Step step = Step.of(i, rows.get(i));
+            results.add(step.result());
+            stepsByCard.computeIfAbsent(step.cardId(), id -> new ArrayList<>()).add(step);
+        }
+
+        try (TrelloClient client = client(runContext)) {
+            // One read per card, plus the checklists it is missing, since items can only be added once their checklist exists
+            List<Callable<CardPlan>> planCalls = new ArrayList<>();
+            for (Map.Entry<String, List<Step>> card : stepsByCard.entrySet()) {
+                planCalls.add(() -> planCard(runContext, client, card.getKey(), card.getValue()));
+            }
+            List<CardPlan> plans = BoundedParallel.invokeAll(planCalls, rMaxConcurrency);
+
+            // Item creations and state changes are independent of each other, so all cards share one parallel round
+            List<Callable<Boolean>> changeCalls = new ArrayList<>();
+            for (CardPlan plan : plans) {
+                for (ItemChange change : plan.changes()) {
+                    changeCalls.add(() -> apply(runContext, client, change));
+                }
+            }
+            BoundedParallel.invokeAll(changeCalls, rMaxConcurrency);
+
+            int checklistsCreated = plans.stream().mapToInt(CardPlan::checklistsCreated).sum();
+            int created = count(results, Result.CREATED);
+            int updated = count(results, Result.UPDATED);
+            int unchanged = count(results, Result.UNCHANGED);
+            int failed = count(results, Result.FAILED);
+
+            runContext.metric(Counter.of("checklists.created", checklistsCreated));
+            runContext.metric(Counter.of("rows.created", created));
+            runContext.metric(Counter.of("rows.updated", updated));
+            runContext.metric(Counter.of("rows.failed", failed));
+            runContext.logger().info(
+                "Applied {} rows on {} cards: {} created, {} updated, {} unchanged, {} failed ({} checklists created)",
+                results.size(), stepsByCard.size(), created, updated, unchanged, failed, checklistsCreated
+            );
+
+            return Output.builder()
+                .checklistsCreated(checklistsCreated)
+                .created(created)
+                .updated(updated)
+                .unchanged(unchanged)
+                .failed(failed)
+                .uri(BulkRows.writeReport(runContext, results))
+                .build();
+        }
+    }
+
+    /**
+     * Reads the checklists of one card, creates the missing ones, and returns the item changes still to send. Rows
+     * needing no item request are resolved here. If Trello rejects a request, or the circuit breaker or the quota stops
+     * it, the card's unresolved rows are failed. A checklist created without an ID fails the rows naming it.
+     */
+    private static CardPlan planCard(RunContext runContext, TrelloClient client, String cardId, List<Step> steps) throws Exception {
+        Map<String, ItemChange> changes = new LinkedHashMap<>();
+        Set<String> createdChecklists = new HashSet<>();
+        Set<String> failedChecklists = new HashSet<>();
+
+        try {
+            List<CardChecklist> existing = client.getList("cards/" + cardId + "/checklists?" + CHECKLIST_FIELDS, CardChecklist.class, "checklists of card " + cardId);
+
+            // Checklist and item names are matched exactly; with duplicates, the first one on the card is used
+            Map<String, ChecklistItems> checklists = new HashMap<>();
+            for (CardChecklist checklist : existing) {
+                checklists.putIfAbsent(checklist.name(), ChecklistItems.of(checklist));
+            }
+
+            for (Step step : steps) {
+                if (failedChecklists.contains(step.checklist())) {
+                    step.resolve(Result.FAILED);
+                    continue;
+                }
+
+                ChecklistItems checklist = checklists.get(step.checklist());
+                if (checklist == null) {
+                    Map<String, Object> body = Map.of("idCard", cardId, "name", step.checklist());
+                    TrelloRef created = client.send("POST", "checklists", body, TrelloRef.class, "create checklist '" + step.checklist() + "' on card " + cardId);
+                    if (created == null || created.id() == null) {
+                        // Sending it again could leave a second checklist of that name on the card
+                        runContext.logger().warn("Trello returned no ID for checklist '{}' created on card {}", step.checklist(), cardId);
+                        failedChecklists.add(step.checklist());
+                        step.resolve(Result.FAILED);
+                        continue;
+                    }
+                    checklist = new ChecklistItems(created.id(), new HashMap<>(), 0);
+                    checklists.put(step.checklist(), checklist);
+                    createdChecklists.add(created.id());
+                }
+                step.result().put("checklistId", checklist.id);
+
+                if (step.item() == null) {
+                    step.resolve(createdChecklists.contains(checklist.id) ? Result.CREATED : Result.UNCHANGED);
+                    continue;
+                }
+
+                // Later rows for an item already being changed fold into that change, the last state given wins
+                String key = checklist.id + "/" + step.item();
+                ItemChange pending = changes.get(key);
+                if (pending != null) {
+                    if (step.state() != null) {
+                        pending.state = step.state();
+                    }
+                    pending.results.add(step.result());
+                    continue;
+                }
+
+                CheckItem item = checklist.items.get(step.item());
+                ItemChange change;
+                if (item == null) {
+                    // Explicit positions keep row order although items are created concurrently
+                    checklist.lastPos += POSITION_STEP;
+                    change = new ItemChange(cardId, checklist.id, null, step.item(), checklist.lastPos, step.state() != null ? step.state() : INCOMPLETE);
+                } else {
+                    step.result().put("checkItemId", item.id());
+                    if (step.state() == null || step.state().equals(item.state())) {
+                        step.resolve(Result.UNCHANGED);
+                        continue;
+                    }
+                    change = new ItemChange(cardId, checklist.id, item.id(), step.item(), 0, step.state());
+                }
+                change.results.add(step.result());
+                changes.put(key, change);
+            }
+        } catch (TrelloApiException | CircuitBreakerOpenException | QuotaExceededException e) {
+            runContext.logger().warn(e.getMessage());
+            steps.forEach(step -> step.resolveIfPending(Result.FAILED));
+            return new CardPlan(createdChecklists.size(), List.of());
+        }
+
+        return new CardPlan(createdChecklists.size(), List.copyOf(changes.values()));
+    }
+
+    private static boolean apply(RunContext runContext, TrelloClient client, ItemChange change) throws Exception {
+        String checkItemId;
+        Result result;
+        try {
+            if (change.itemId == null) {
+                Map<String, Object> body = Map.of("name", change.name, "pos", change.pos, "checked", COMPLETE.equals(change.state));
+                TrelloRef created = client.send("POST", "checklists/" + change.checklistId + "/checkItems", body, TrelloRef.class, "add checklist item '" + change.name + "' on card " + change.cardId);
+                if (created == null || created.id() == null) {
+                    runContext.logger().warn("Trello returned no ID for checklist item '{}' added on card {}", change.name, change.cardId);
+                    change.results.forEach(row -> row.put("result", Result.FAILED.name()));
+                    return false;
+                }
+                checkItemId = created.id();
+                result = Result.CREATED;
+            } else {
+                client.send("PUT", "cards/" + change.cardId + "/checkItem/" + change.itemId, Map.of("state", change.state), Void.class, "update checklist item '" + change.name + "' on card " + change.cardId);
+                checkItemId = change.itemId;
+                result = Result.UPDATED;
+            }
+        } catch (TrelloApiException | CircuitBreakerOpenException | QuotaExceededException e) {
+            runContext.logger().warn(e.getMessage());
+            change.results.forEach(row -> row.put("result", Result.FAILED.name()));
+            return false;
+        }
+
+        change.results.forEach(row -> {
+            row.put("checkItemId", checkItemId);
+            row.put("result", result.name());
+        });
+        return true;
+    }
+
+    private static int count(List<Map<String, Object>> results, Result result) {
+        return (int) results.stream().filter(row -> result.name().equals(row.get("result"))).count();
+    }
+
+    private enum Result {
+        CREATED,
+        UPDATED,
+        UNCHANGED,
+        FAILED
+    }
+
+    // One validated input row, with the report entry it fills in
+    private record Step(String cardId, String checklist, String item, String state, Map<String, Object> result) {
+        static Step of(int index, Map<String, Object> row) {
+            String cardId = text(row, "cardId");
+            String checklist = text(row, "checklist");
+            String item = text(row, "item");
+            String state = text(row, "state");
+
+            if (cardId == null) {
+                throw new IllegalArgumentException("Row " + index + " has no `cardId`: " + row);
+            }
+            if (checklist == null) {
+                throw new IllegalArgumentException("Row " + index + " has no `checklist`: " + row);
+            }
+            if (state != null && !COMPLETE.equals(state) && !INCOMPLETE.equals(state)) {
+                throw new IllegalArgumentException("Row " + index + " has an invalid `state`, expected `complete` or `incomplete`: " + row);
+            }
+            if (state != null && item == null) {
+                throw new IllegalArgumentException("Row " + index + " has a `state` but no `item`: " + row);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("row", index);
+            result.put("cardId", cardId);
+            result.put("checklistId", null);
+            result.put("checkItemId", null);
+            result.put("result", null);
+            return new Step(cardId, checklist, item, state, result);
+        }
+
+        void resolve(Result outcome) {
+            result.put("result", outcome.name());
+        }
+
+        void resolveIfPending(Result outcome) {
+            if (result.get("result") == null) {
+                resolve(outcome);
+            }
+        }
+
+        private static String text(Map<String, Object> row, String key) {
+            Object value = row.get(key);
+            return value != null && !value.toString().isBlank() ? value.toString() : null;
+        }
+    }
+
+    // An item to create (no itemId) or whose state to set, shared by every row naming it
+    private static final class ItemChange {
+        private final String cardId;
+        private final String checklistId;
+        private final String itemId;
+        private final String name;
+        private final double pos;
+        private final List<Map<String, Object>> results = new ArrayList<>();
+        private String state;
+
+        private ItemChange(String cardId, String checklistId, String itemId, String name, double pos, String state) {
+            this.cardId = cardId;
+            this.checklistId = checklistId;
+            this.itemId = itemId;
+            this.name = name;
+            this.pos = pos;
+            this.state = state;
+        }
+    }
+
+    private record CardPlan(int checklistsCreated, List<ItemChange> changes) {
+    }
+
+    private record CardChecklist(String id, String name, List<CheckItem> checkItems) {
+    }
+
+    private record CheckItem(String id, String name, String state, Double pos) {
+    }
+
+    // Items of one checklist by name, and the position after which new items are appended
+    private static final class ChecklistItems {
+        private final String id;
+        private final Map<String, CheckItem> items;
+        private double lastPos;
+
+        private ChecklistItems(String id, Map<String, CheckItem> items, double lastPos) {
+            this.id = id;
+            this.items = items;
+            this.lastPos = lastPos;
+        }
+
+        static ChecklistItems of(CardChecklist checklist) {
+            Map<String, CheckItem> items = new HashMap<>();
+            double lastPos = 0;
+            for (CheckItem item : checklist.checkItems() != null ? checklist.checkItems() : List.<CheckItem>of()) {
+                items.putIfAbsent(item.name(), item);
+                if (item.pos() != null) {
+                    lastPos = Math.max(lastPos, item.pos());
+                }
+            }
+            return new ChecklistItems(checklist.id(), items, lastPos);
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Created Checklists", description = "Number of checklists created on cards that did not have them")
+        private final Integer checklistsCreated;
+
+        @Schema(title = "Created Rows", description = "Rows whose item, or checklist for rows without `item`, was created")
+        private final Integer created;
+
+        @Schema(title = "Updated Rows", description = "Rows whose existing item got a new state")
+        private final Integer updated;
+
+        @Schema(title = "Unchanged Rows", description = "Rows already matching the card, for which nothing was sent")
+        private final Integer unchanged;
+
+        @Schema(title = "Failed Rows", description = "Rows not applied because Trello rejected a request for them or for their card's checklists")
+        private final Integer failed;
+
+        @Schema(title = "Report URI", description = "Internal storage URI of an ION file with one row per input row: `row` (position in `from`), `cardId`, `checklistId`, `checkItemId`, and `result` (`CREATED`, `UPDATED`, `UNCHANGED`, or `FAILED`)")
+        private final URI uri;
+    }
+}
@@ -0,0 +1,191 @@
+package io.kestra.plugin.trello.cards;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Data;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.client.BoundedParallel;
+import io.kestra.plugin.trello.client.CircuitBreakerOpenException;
+import io.kestra.plugin.trello.client.QuotaExceededException;
+import io.kestra.plugin.trello.client.TrelloApiException;
+import io.kestra.plugin.trello.client.TrelloClient;
+import io.kestra.plugin.trello.client.TrelloRef;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Add templated comments to many Trello cards",
+    description = "Posts one comment per row of `from`, rendering `text` with the row available as `row`. Cards are commented in parallel, with rate limited requests retried after Trello's `Retry-After` delay, while the comments of one card are posted in row order. " +
+        "A report with the comment ID of each row is written to internal storage"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Post release notes to every card of a release",
+            full = true,
+            code = """
+                id: trello_release_comments
+                namespace: company.team
+
+                tasks:
+                  - id: release_comments
+                    type: io.kestra.plugin.trello.cards.BulkComment
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    from:
+                      - cardId: "5abbe4b7ddc1b351ef961414"
+                        version: "2.4.0"
+                        ticket: "OPS-112"
+                      - cardId: "5abbe4b7ddc1b351ef961415"
+                        version: "2.4.0"
+                        ticket: "OPS-118"
+                    text: "Shipped in {{ row.version }} ({{ row.ticket }})"
+                """
+        ),
+        @Example(
+            title = "Comment on cards listed in a file produced by a previous task",
+            full = true,
+            code = """
+                id: trello_bulk_comments_from_file
+                namespace: company.team
+
+                tasks:
+                  - id: bulk_comments
+                    type: io.kestra.plugin.trello.cards.BulkComment
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    from: "{{ outputs.find_cards.uri }}"
+                    text: "Deployed to production on {{ execution.startDate | date('yyyy-MM-dd') }}"
+                    maxConcurrency: 8
+                """
+        )
+    }
+)
+public class BulkComment extends AbstractTrelloTask implements Data.From {
+
+    @Schema(
+        title = "Rows",
+        description = "Inline list of rows, a single row as a map, or the internal storage URI of an ION file with one row per line. Each row has a `cardId`; every other key is available to `text` as `row.<key>`",
+        anyOf = {String.class, List.class, Map.class}
+    )
+    @NotNull
+    @PluginProperty(dynamic = true, internalStorageURI = true, group = "main")
+    protected Object from;
+
+    @Schema(title = "Comment Text", description = "Comment template rendered once per row, with the row available as `row`")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<String> text;
+
+    @Schema(title = "Max Concurrency", description = "Most cards commented at once. Defaults to `4`")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> maxConcurrency = Property.ofValue(4);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        int rMaxConcurrency = runContext.render(this.maxConcurrency).as(Integer.class).orElse(4);
+        List<Map<String, Object>> rows = BulkRows.read(runContext, this.from);
+
+        // Every comment is rendered before the first one is sent, so a template error posts nothing. The property
+        // cache is skipped since it would hand every row the first row's text
+        List<Map<String, Object>> results = new ArrayList<>(rows.size());
+        Map<String, List<Map<String, Object>>> commentsByCard = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            Object cardId = row.get("cardId");
+            if (cardId == null) {
+                throw new IllegalArgumentException("Row " + i + " has no `cardId`: " + row);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("row", i);
+            result.put("cardId", cardId.toString());
+            result.put("text", runContext.render(this.text).skipCache().as(String.class, Map.of("row", row)).orElseThrow());
+            result.put("commentId", null);
+            result.put("error", null);
+            results.add(result);
+            commentsByCard.computeIfAbsent(cardId.toString(), id -> new ArrayList<>()).add(result);
+        }
+
+        try (TrelloClient client = client(runContext)) {
+            List<Callable<Integer>> calls = new ArrayList<>();
+            for (Map.Entry<String, List<Map<String, Object>>> card : commentsByCard.entrySet()) {
+                calls.add(() -> commentCard(runContext, client, card.getKey(), card.getValue()));
+            }
+
+            int posted = BoundedParallel.invokeAll(calls, rMaxConcurrency).stream().mapToInt(Integer::intValue).sum();
+            int failed = results.size() - posted;
+
+            runContext.metric(Counter.of("comments.posted", posted));
+            runContext.metric(Counter.of("comments.failed", failed));
+            runContext.logger().info("Posted {} of {} comments on {} cards", posted, results.size(), commentsByCard.size());
+
+            results.forEach(result -> result.remove("text"));
+
+            return Output.builder()
+                .posted(posted)
+                .failed(failed)
+                .uri(BulkRows.writeReport(runContext, results))
+                .build();
+        }
+    }
+
+    // Comments of one card go out one after the other, so they appear on the card in row order. A failure, including
+    // an open circuit or an exhausted quota, is reported on its row rather than failing the task, so the comments
+    // already posted are in the report and a retry can leave them out
+    private static int commentCard(RunContext runContext, TrelloClient client, String cardId, List<Map<String, Object>> comments) throws Exception {
+        int posted = 0;
+
+        for (Map<String, Object> comment : comments) {
+            TrelloRef created;
+            try {
+                created = client.send("POST", "cards/" + cardId + "/actions/comments", Map.of("text", comment.get("text")), TrelloRef.class, "comment card " + cardId);
+            } catch (TrelloApiException | CircuitBreakerOpenException | QuotaExceededException e) {
+                runContext.logger().warn(e.getMessage());
+                comment.put("error", e.getMessage());
+                // Later comments of the card are not sent, otherwise they would land before the failed one on retry
+                comments.subList(posted + 1, comments.size())
+                    .forEach(skipped -> skipped.put("error", "Skipped after an earlier comment of card " + cardId + " failed"));
+                return posted;
+            }
+
+            comment.put("commentId", created != null ? created.id() : null);
+            posted++;
+        }
+
+        return posted;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Posted Comments", description = "Number of comments created")
+        private final Integer posted;
+
+        @Schema(title = "Failed Comments", description = "Rows whose comment was not created, because Trello rejected it or an earlier comment of the same card failed")
+        private final Integer failed;
+
+        @Schema(title = "Report URI", description = "Internal storage URI of an ION file with one row per input row: `row` (position in `from`), `cardId`, `commentId` (null when not created), and `error` (why the comment was not created)")
+        private final URI uri;
+    }
+}
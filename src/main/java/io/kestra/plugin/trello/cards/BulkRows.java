@@ -0,0 +1,41 @@
+package io.kestra.plugin.trello.cards;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.models.property.Data;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Input rows and per-row reports of the bulk card tasks. Rows are read through Kestra's {@link Data} input, so they
+ * come inline as a list or a single map, or from an ION file in internal storage with one row per line.
+ */
+final class BulkRows {
+    private BulkRows() {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final Class<Map<String, Object>> ROW = (Class<Map<String, Object>>) (Class<?>) Map.class;
+
+    static List<Map<String, Object>> read(RunContext runContext, Object from) throws Exception {
+        return Data.from(from).readAs(runContext, ROW, row -> row).collectList().block();
+    }
+
+    static URI writeReport(RunContext runContext, List<Map<String, Object>> results) throws Exception {
+        Path file = runContext.workingDir().createTempFile(".ion");
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)) {
+            FileSerde.writeAll(writer, Flux.fromIterable(results)).block();
+        }
+        return runContext.storage().putFile(file.toFile());
+    }
+}
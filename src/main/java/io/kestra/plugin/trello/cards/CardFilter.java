@@ -0,0 +1,99 @@
+package io.kestra.plugin.trello.cards;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Builder;
+
+/**
+ * Client-side card predicates evaluated on each raw card node before any output object is built.
+ * Every criterion left {@code null} or empty matches all cards.
+ */
+@Builder(toBuilder = true)
+final class CardFilter {
+    private final Set<String> labelIds;
+    private final Set<String> memberIds;
+    private final Set<String> listIds;
+    private final CardStatus status;
+    private final Instant dueAfter;
+    private final Instant dueBefore;
+    private final Pattern namePattern;
+    private final Instant lastActivityBefore;
+
+    boolean matches(JsonNode card) {
+        if (!isEmpty(listIds) && !listIds.contains(text(card, "idList"))) {
+            return false;
+        }
+
+        if (status == CardStatus.OPEN && card.path("closed").asBoolean(false)) {
+            return false;
+        }
+
+        if (status == CardStatus.CLOSED && !card.path("closed").asBoolean(false)) {
+            return false;
+        }
+
+        if (!isEmpty(labelIds) && !containsAny(card.get("idLabels"), labelIds)) {
+            return false;
+        }
+
+        if (!isEmpty(memberIds) && !containsAny(card.get("idMembers"), memberIds)) {
+            return false;
+        }
+
+        if (dueAfter != null || dueBefore != null) {
+            String due = text(card, "due");
+            if (due == null) {
+                return false;
+            }
+
+            Instant dueInstant = Instant.parse(due);
+            if (dueAfter != null && dueInstant.isBefore(dueAfter)) {
+                return false;
+            }
+            if (dueBefore != null && dueInstant.isAfter(dueBefore)) {
+                return false;
+            }
+        }
+
+        if (lastActivityBefore != null) {
+            String lastActivity = text(card, "dateLastActivity");
+            if (lastActivity == null || !Instant.parse(lastActivity).isBefore(lastActivityBefore)) {
+                return false;
+            }
+        }
+
+        if (namePattern != null) {
+            String name = text(card, "name");
+            return name != null && namePattern.matcher(name).find();
+        }
+
+        return true;
+    }
+
+    private static boolean containsAny(JsonNode array, Set<String> expected) {
+        if (array == null || !array.isArray()) {
+            return false;
+        }
+
+        for (JsonNode value : array) {
+            if (expected.contains(value.asText())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static boolean isEmpty(Set<String> values) {
+        return values == null || values.isEmpty();
+    }
+}
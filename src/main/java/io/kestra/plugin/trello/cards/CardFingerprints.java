@@ -0,0 +1,327 @@
+package io.kestra.plugin.trello.cards;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Open-addressing table of per-field card fingerprints keyed by a 64-bit hash of the card ID.
+ * Text and array fields are stored as 32-bit hashes; list, due date and closed flag are stored as values so
+ * their previous value can be reported. About 40 bytes per card, so 100k cards stay within a few megabytes.
+ * Archived cards are dropped once their closing has been reported, so the table follows the open cards.
+ */
+final class CardFingerprints {
+    private static final int FORMAT_VERSION = 1;
+    private static final long EMPTY = 0L;
+    private static final long NO_DUE = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] names;
+    private int[] descs;
+    private int[] lists;
+    private long[] dues;
+    private int[] labels;
+    private int[] members;
+    private boolean[] closed;
+    private int size;
+    private boolean dirty;
+
+    // Lists are few per board, so card slots only keep an index into this dictionary
+    private final List<String> listIds = new ArrayList<>();
+    private final Map<String, Integer> listIndexes = new HashMap<>();
+
+    CardFingerprints() {
+        allocate(1024);
+    }
+
+    record Fingerprint(int name, int desc, String idList, long due, int labels, int members, boolean closed) {
+        static Fingerprint of(JsonNode card) {
+            JsonNode due = card.get("due");
+
+            return new Fingerprint(
+                hash(card.get("name")),
+                hash(card.get("desc")),
+                card.hasNonNull("idList") ? card.get("idList").asText() : null,
+                due == null || due.isNull() ? NO_DUE : Instant.parse(due.asText()).toEpochMilli(),
+                hashSorted(card.get("idLabels")),
+                hashSorted(card.get("idMembers")),
+                card.path("closed").asBoolean(false)
+            );
+        }
+    }
+
+    record Change(String field, Object oldValue, Object newValue) {
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Stores the fingerprint of a card and returns the fields that differ from the previous one,
+     * or {@code null} when the card was not known yet. A closed card is forgotten after its changes are computed;
+     * if it is reopened, it is reported as not known.
+     */
+    synchronized List<Change> update(String cardId, Fingerprint fingerprint, JsonNode card) {
+        long key = key(cardId);
+        int slot = find(key);
+
+        if (keys[slot] == EMPTY && fingerprint.closed()) {
+            return null;
+        }
+
+        int listIndex = listIndex(fingerprint.idList());
+        if (keys[slot] == EMPTY) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                rehash(keys.length * 2);
+                slot = find(key);
+            }
+            keys[slot] = key;
+            write(slot, fingerprint, listIndex);
+            size++;
+            dirty = true;
+            return null;
+        }
+
+        List<Change> changes = new ArrayList<>();
+        if (names[slot] != fingerprint.name()) {
+            changes.add(new Change("name", null, text(card, "name")));
+        }
+        if (descs[slot] != fingerprint.desc()) {
+            changes.add(new Change("desc", null, text(card, "desc")));
+        }
+        if (lists[slot] != listIndex) {
+            changes.add(new Change("idList", lists[slot] >= 0 ? listIds.get(lists[slot]) : null, fingerprint.idList()));
+        }
+        if (dues[slot] != fingerprint.due()) {
+            changes.add(new Change("due", toInstant(dues[slot]), toInstant(fingerprint.due())));
+        }
+        if (labels[slot] != fingerprint.labels()) {
+            changes.add(new Change("labels", null, textList(card.get("idLabels"))));
+        }
+        if (members[slot] != fingerprint.members()) {
+            changes.add(new Change("members", null, textList(card.get("idMembers"))));
+        }
+        if (closed[slot] != fingerprint.closed()) {
+            changes.add(new Change("closed", closed[slot], fingerprint.closed()));
+        }
+
+        if (fingerprint.closed()) {
+            delete(slot);
+            dirty = true;
+        } else if (!changes.isEmpty()) {
+            write(slot, fingerprint, listIndex);
+            dirty = true;
+        }
+
+        return changes;
+    }
+
+    boolean contains(String cardId) {
+        return keys[find(key(cardId))] != EMPTY;
+    }
+
+    String serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(listIds.size());
+            for (String listId : listIds) {
+                out.writeUTF(listId);
+            }
+            out.writeInt(size);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY) {
+                    out.writeLong(keys[slot]);
+                    out.writeInt(names[slot]);
+                    out.writeInt(descs[slot]);
+                    out.writeInt(lists[slot]);
+                    out.writeLong(dues[slot]);
+                    out.writeInt(labels[slot]);
+                    out.writeInt(members[slot]);
+                    out.writeBoolean(closed[slot]);
+                }
+            }
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    static CardFingerprints deserialize(String value) throws IOException {
+        CardFingerprints fingerprints = new CardFingerprints();
+
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value))))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return fingerprints;
+            }
+
+            int listCount = in.readInt();
+            for (int i = 0; i < listCount; i++) {
+                fingerprints.listIndex(in.readUTF());
+            }
+
+            int count = in.readInt();
+            fingerprints.allocate(Math.max(1024, Integer.highestOneBit(Math.max(1, count * 2)) * 2));
+            for (int i = 0; i < count; i++) {
+                long key = in.readLong();
+                int slot = fingerprints.find(key);
+                fingerprints.keys[slot] = key;
+                fingerprints.names[slot] = in.readInt();
+                fingerprints.descs[slot] = in.readInt();
+                fingerprints.lists[slot] = in.readInt();
+                fingerprints.dues[slot] = in.readLong();
+                fingerprints.labels[slot] = in.readInt();
+                fingerprints.members[slot] = in.readInt();
+                fingerprints.closed[slot] = in.readBoolean();
+            }
+            fingerprints.size = count;
+        }
+
+        return fingerprints;
+    }
+
+    private void write(int slot, Fingerprint fingerprint, int listIndex) {
+        names[slot] = fingerprint.name();
+        descs[slot] = fingerprint.desc();
+        lists[slot] = listIndex;
+        dues[slot] = fingerprint.due();
+        labels[slot] = fingerprint.labels();
+        members[slot] = fingerprint.members();
+        closed[slot] = fingerprint.closed();
+    }
+
+    // Backward-shift deletion: later entries of the probe run move into the hole, so lookups never stop early
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = home(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                names[hole] = names[next];
+                descs[hole] = descs[next];
+                lists[hole] = lists[next];
+                dues[hole] = dues[next];
+                labels[hole] = labels[next];
+                members[hole] = members[next];
+                closed[hole] = closed[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    private int home(long key) {
+        return (int) (key ^ (key >>> 32)) & (keys.length - 1);
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = home(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int listIndex(String listId) {
+        if (listId == null) {
+            return -1;
+        }
+        return listIndexes.computeIfAbsent(listId, id -> {
+            listIds.add(id);
+            return listIds.size() - 1;
+        });
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        names = new int[capacity];
+        descs = new int[capacity];
+        lists = new int[capacity];
+        dues = new long[capacity];
+        labels = new int[capacity];
+        members = new int[capacity];
+        closed = new boolean[capacity];
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldNames = names;
+        int[] oldDescs = descs;
+        int[] oldLists = lists;
+        long[] oldDues = dues;
+        int[] oldLabels = labels;
+        int[] oldMembers = members;
+        boolean[] oldClosed = closed;
+
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                names[slot] = oldNames[i];
+                descs[slot] = oldDescs[i];
+                lists[slot] = oldLists[i];
+                dues[slot] = oldDues[i];
+                labels[slot] = oldLabels[i];
+                members[slot] = oldMembers[i];
+                closed[slot] = oldClosed[i];
+            }
+        }
+    }
+
+    // 64-bit FNV-1a; zero is reserved for empty slots
+    private static long key(String cardId) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < cardId.length(); i++) {
+            hash ^= cardId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    private static int hash(JsonNode value) {
+        return value == null || value.isNull() ? 0 : value.asText().hashCode();
+    }
+
+    private static int hashSorted(JsonNode array) {
+        List<String> values = textList(array);
+        values.sort(null);
+        return values.hashCode();
+    }
+
+    private static List<String> textList(JsonNode array) {
+        List<String> values = new ArrayList<>();
+        if (array != null && array.isArray()) {
+            array.forEach(value -> values.add(value.asText()));
+        }
+        return values;
+    }
+
+    private static String text(JsonNode node, String field) {
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+
+    private static String toInstant(long due) {
+        return due == NO_DUE ? null : Instant.ofEpochMilli(due).toString();
+    }
+}
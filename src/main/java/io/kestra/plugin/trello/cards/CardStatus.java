@@ -0,0 +1,20 @@
+package io.kestra.plugin.trello.cards;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(title = "Card Status", description = "Card state pushed down to Trello as the `filter` query parameter")
+public enum CardStatus {
+    OPEN("open"),
+    CLOSED("closed"),
+    ALL("all");
+
+    private final String queryValue;
+
+    CardStatus(String queryValue) {
+        this.queryValue = queryValue;
+    }
+
+    public String queryValue() {
+        return this.queryValue;
+    }
+}
@@ -1,20 +1,14 @@
 package io.kestra.plugin.trello.cards;
 
-import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
-import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
-import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.client.TrelloClient;
+import io.kestra.plugin.trello.client.TrelloRef;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -30,7 +24,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 
 @Schema(
     title = "Add comments to Trello cards",
-    description = "Posts one comment to an existing Trello card and returns the created comment ID. The `text` property is rendered, URL-encoded, and sent as a query parameter, so avoid putting secrets in comments"
+    description = "Posts one comment to an existing Trello card and returns the created comment ID. The `text` property is rendered and sent in the request body; avoid putting secrets in comments"
 )
 @Plugin(
     examples = {
@@ -69,34 +63,11 @@ public class Comment extends AbstractTrelloTask {
         String rId = runContext.render(this.cardId).as(String.class).orElseThrow();
         String rText = runContext.render(this.text).as(String.class).orElseThrow();
 
-        String url = buildApiUrl(runContext, "cards/" + rId + "/actions/comments") + "?text="
-            + URLEncoder.encode(rText, StandardCharsets.UTF_8);
-
-        HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
-            .method("POST")
-            .uri(URI.create(url))
-            .addHeader("Accept", "application/json");
-
-        HttpRequest request = addAuthHeaders(runContext, requestBuilder).build();
-
-        try (
-            HttpClient httpClient = HttpClient.builder()
-                .runContext(runContext)
-                .build()
-        ) {
-            HttpResponse<String> response = httpClient.request(request, String.class);
-
-            if (response.getStatus().getCode() != 200) {
-                throw new RuntimeException(
-                    "Failed to add comment: " + response.getStatus().getCode() + " - "
-                        + response.getBody()
-                );
-            }
-
-            JsonNode jsonNode = JacksonMapper.ofJson().readTree(response.getBody());
+        try (TrelloClient client = client(runContext)) {
+            TrelloRef comment = client.send("POST", "cards/" + rId + "/actions/comments", Map.of("text", rText), TrelloRef.class, "add comment");
 
             return Output.builder()
-                .commentId(jsonNode.has("id") ? jsonNode.get("id").asText() : null)
+                .commentId(comment != null ? comment.id() : null)
                 .build();
         }
     }
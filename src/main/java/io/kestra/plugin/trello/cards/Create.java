@@ -1,25 +1,25 @@
 package io.kestra.plugin.trello.cards;
 
-import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
-import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
-import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.client.BoundedParallel;
+import io.kestra.plugin.trello.client.TrelloClient;
+import io.kestra.plugin.trello.client.TrelloRef;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -29,7 +29,8 @@ import io.kestra.core.models.annotations.PluginProperty;
 @EqualsAndHashCode
 @Schema(
     title = "Create cards in a Trello list",
-    description = "Creates one card in the target Trello list and returns the new card ID. All properties are rendered before the request; `pos` accepts `top`, `bottom`, or a positive float"
+    description = "Creates one card in the target Trello list and returns the new card ID. All properties are rendered before the request; `pos` accepts `top`, `bottom`, or a positive float. " +
+        "With `templateCardId`, the card is copied server-side from a template (checklists, labels, members, attachments, and so on, per `keepFromSource`) and `desc`/`due` are applied with a single update, so a fully set-up card takes two requests"
 )
 @Plugin(
     examples = {
@@ -49,6 +50,27 @@ import io.kestra.core.models.annotations.PluginProperty;
                     listId: "5abbe4b7ddc1b351ef961414"
                     desc: "This is the card description"
                 """
+        ),
+        @Example(
+            title = "Create an incident card from a template card, keeping its checklists and labels",
+            full = true,
+            code = """
+                id: trello_create_card_from_template
+                namespace: company.team
+
+                tasks:
+                  - id: create_card
+                    type: io.kestra.plugin.trello.cards.Create
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    name: "Incident {{ execution.id }}"
+                    listId: "5abbe4b7ddc1b351ef961414"
+                    templateCardId: "5abbe4b7ddc1b351ef961500"
+                    keepFromSource:
+                      - checklists
+                      - labels
+                    desc: "Opened by {{ flow.id }}"
+                """
         )
     }
 )
@@ -76,10 +98,37 @@ public class Create extends AbstractTrelloTask {
     @PluginProperty(group = "advanced")
     protected Property<String> due;
 
+    @Schema(title = "Template Card ID", description = "Copy this card server-side (Trello `idCardSource`) instead of creating an empty card. `desc` and `due` are then applied to the copy with one update request")
+    @PluginProperty(group = "advanced")
+    protected Property<String> templateCardId;
+
+    @Schema(title = "Keep From Template", description = "What to copy from the template card: `all`, or any of `attachments`, `checklists`, `comments`, `customFields`, `due`, `start`, `labels`, `members`, and `stickers`. Defaults to `all`")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> keepFromSource;
+
+    @Schema(title = "Label IDs", description = "Labels added to the card in the create request itself")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> labelIds;
+
+    @Schema(title = "Member IDs", description = "Members added to the card in the create request itself")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> memberIds;
+
+    @Schema(title = "Checklists", description = "Checklists to add once the card exists. Checklists are created in parallel, so their order on the card is not guaranteed; items keep the order given")
+    @PluginProperty(group = "advanced")
+    protected Property<List<Checklist>> checklists;
+
+    @Schema(title = "Custom Field Values", description = "Custom field values keyed by custom field ID, set with a single batch update. A string, number, or boolean sets a text, number, or checkbox field and `null` clears it; a map is sent as Trello's `value` object, or as is when it already holds `value` or `idValue` (dropdown option)")
+    @PluginProperty(group = "advanced")
+    protected Property<Map<String, Object>> customFields;
+
+    @Schema(title = "Max Concurrency", description = "Most follow-up requests (checklists, checklist items, custom fields) sent at once after the card is created. Defaults to `4`")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> maxConcurrency = Property.ofValue(4);
+
     @Override
     public io.kestra.core.models.tasks.Output run(RunContext runContext) throws Exception {
-        String url = buildApiUrl(runContext, "cards");
-
         Map<String, Object> cardData = new HashMap<>();
 
         String rName = runContext.render(this.name).as(String.class).orElseThrow();
@@ -88,49 +137,157 @@ public class Create extends AbstractTrelloTask {
         cardData.put("name", rName);
         cardData.put("idList", rIdList);
 
-        runContext.render(this.desc).as(String.class).ifPresent(val -> cardData.put("desc", val));
         runContext.render(this.pos).as(String.class).ifPresent(val -> cardData.put("pos", val));
-        runContext.render(this.due).as(String.class).ifPresent(val -> cardData.put("due", val));
-
-        HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
-            .method("POST")
-            .uri(URI.create(url))
-            .addHeader("Content-Type", "application/json")
-            .addHeader("Accept", "application/json")
-            .body(
-                HttpRequest.StringRequestBody.builder()
-                    .content(JacksonMapper.ofJson().writeValueAsString(cardData))
-                    .build()
-            );
-
-        HttpRequest request = addAuthHeaders(runContext, requestBuilder).build();
-
-        try (
-            HttpClient httpClient = HttpClient.builder()
-                .runContext(runContext)
-                .build()
-        ) {
-            HttpResponse<String> response = httpClient.request(request, String.class);
-
-            if (response.getStatus().getCode() != 200) {
-                throw new RuntimeException(
-                    "Failed to create card: " + response.getStatus().getCode() + " - "
-                        + response.getBody()
-                );
+
+        // Labels and members ride on the create request, which saves one request per ID
+        List<String> rLabelIds = runContext.render(this.labelIds).asList(String.class);
+        List<String> rMemberIds = runContext.render(this.memberIds).asList(String.class);
+        if (!rLabelIds.isEmpty()) {
+            cardData.put("idLabels", String.join(",", rLabelIds));
+        }
+        if (!rMemberIds.isEmpty()) {
+            cardData.put("idMembers", String.join(",", rMemberIds));
+        }
+
+        // Overrides of a copied card go in a follow-up update, so they win over whatever the template carries
+        Map<String, Object> overrides = new HashMap<>();
+        runContext.render(this.desc).as(String.class).ifPresent(val -> overrides.put("desc", val));
+        runContext.render(this.due).as(String.class).ifPresent(val -> overrides.put("due", val));
+
+        String rTemplateCardId = runContext.render(this.templateCardId).as(String.class).orElse(null);
+        if (rTemplateCardId != null) {
+            List<String> rKeepFromSource = runContext.render(this.keepFromSource).asList(String.class);
+            cardData.put("idCardSource", rTemplateCardId);
+            cardData.put("keepFromSource", rKeepFromSource.isEmpty() ? "all" : String.join(",", rKeepFromSource));
+        } else {
+            cardData.putAll(overrides);
+            overrides.clear();
+        }
+
+        List<Checklist> rChecklists = runContext.render(this.checklists).asList(Checklist.class);
+        Map<String, Object> rCustomFields = runContext.render(this.customFields).asMap(String.class, Object.class);
+        int rMaxConcurrency = runContext.render(this.maxConcurrency).as(Integer.class).orElse(4);
+
+        try (TrelloClient client = client(runContext)) {
+            CreatedCard card = client.send("POST", "cards", cardData, CreatedCard.class, "create card");
+            // Checklists and custom fields hang off the card ID, so they could not be added without one
+            if (card == null || card.id() == null) {
+                throw new IllegalStateException("Failed to create card: Trello returned no card ID");
+            }
+            String cardId = card.id();
+
+            // The card is the only dependency: overrides, checklists, and custom fields go out together
+            List<Callable<String>> dependents = new ArrayList<>();
+            if (!overrides.isEmpty()) {
+                dependents.add(() -> id(client.send("PUT", "cards/" + cardId, overrides, TrelloRef.class, "update card " + cardId + " copied from the template")));
+            }
+            for (int i = 0; i < rChecklists.size(); i++) {
+                Checklist checklist = rChecklists.get(i);
+                // Explicit positions keep the given order although checklists are created concurrently
+                Map<String, Object> body = Map.of("idCard", cardId, "name", checklist.getName(), "pos", String.valueOf((i + 1) * 1024));
+                dependents.add(() -> id(client.send("POST", "checklists", body, TrelloRef.class, "create checklist '" + checklist.getName() + "'")));
+            }
+            if (!rCustomFields.isEmpty()) {
+                // Values are encoded like UpdateCustomFields does and all go out in one batch update
+                List<Map<String, Object>> items = new ArrayList<>();
+                rCustomFields.forEach((fieldId, value) -> items.add(CustomFieldDefinitions.item(fieldId, value)));
+                dependents.add(() -> {
+                    client.send("PUT", "cards/" + cardId + "/customFields", Map.of("customFieldItems", items), Void.class, "set custom fields of card " + cardId);
+                    return null;
+                });
+            }
+
+            List<String> dependentIds = BoundedParallel.invokeAll(dependents, rMaxConcurrency);
+            List<String> checklistIds = dependentIds.subList(overrides.isEmpty() ? 0 : 1, (overrides.isEmpty() ? 0 : 1) + rChecklists.size());
+            for (int i = 0; i < rChecklists.size(); i++) {
+                if (checklistIds.get(i) == null) {
+                    throw new IllegalStateException("Failed to create checklist '" + rChecklists.get(i).getName() + "' on card " + cardId + ": Trello returned no checklist ID");
+                }
+            }
+
+            // Items only need their checklist; all of them go out in one more parallel round
+            List<Callable<String>> itemCalls = new ArrayList<>();
+            for (int i = 0; i < rChecklists.size(); i++) {
+                String checklistId = checklistIds.get(i);
+                List<String> items = rChecklists.get(i).getItems() != null ? rChecklists.get(i).getItems() : List.of();
+                for (int j = 0; j < items.size(); j++) {
+                    // Explicit positions keep the given order although items are created concurrently
+                    Map<String, Object> body = Map.of("name", items.get(j), "pos", String.valueOf((j + 1) * 1024));
+                    itemCalls.add(() -> id(client.send("POST", "checklists/" + checklistId + "/checkItems", body, TrelloRef.class, "add checklist item")));
+                }
             }
+            List<String> itemIds = BoundedParallel.invokeAll(itemCalls, rMaxConcurrency);
 
-            JsonNode jsonNode = JacksonMapper.ofJson().readTree(response.getBody());
+            List<CreatedChecklist> createdChecklists = new ArrayList<>();
+            int offset = 0;
+            for (int i = 0; i < rChecklists.size(); i++) {
+                int count = rChecklists.get(i).getItems() != null ? rChecklists.get(i).getItems().size() : 0;
+                createdChecklists.add(CreatedChecklist.builder()
+                    .id(checklistIds.get(i))
+                    .name(rChecklists.get(i).getName())
+                    .itemIds(List.copyOf(itemIds.subList(offset, offset + count)))
+                    .build());
+                offset += count;
+            }
 
             return Output.builder()
-                .cardId(jsonNode.has("id") ? jsonNode.get("id").asText() : null)
+                .cardId(cardId)
+                .labelIds(card.idLabels() != null ? card.idLabels() : List.of())
+                .memberIds(card.idMembers() != null ? card.idMembers() : List.of())
+                .checklists(createdChecklists)
+                .customFieldIds(List.copyOf(rCustomFields.keySet()))
                 .build();
         }
     }
 
+    private static String id(TrelloRef ref) {
+        return ref != null ? ref.id() : null;
+    }
+
+    private record CreatedCard(String id, List<String> idLabels, List<String> idMembers) {
+    }
+
+    @Builder
+    @Getter
+    @Jacksonized
+    public static class Checklist {
+        @Schema(title = "Checklist Name")
+        @NotNull
+        private final String name;
+
+        @Schema(title = "Items", description = "Item names, in order")
+        private final List<String> items;
+    }
+
+    @Builder
+    @Getter
+    public static class CreatedChecklist {
+        @Schema(title = "Checklist ID")
+        private final String id;
+
+        @Schema(title = "Checklist Name")
+        private final String name;
+
+        @Schema(title = "Item IDs", description = "Created checklist item IDs, in the order given")
+        private final List<String> itemIds;
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
         @Schema(title = "Created Card ID", description = "Card ID returned by Trello")
         private final String cardId;
+
+        @Schema(title = "Label IDs", description = "Labels on the created card, including labels kept from a template")
+        private final List<String> labelIds;
+
+        @Schema(title = "Member IDs", description = "Members on the created card, including members kept from a template")
+        private final List<String> memberIds;
+
+        @Schema(title = "Checklists", description = "Checklists created from `checklists`, with their item IDs")
+        private final List<CreatedChecklist> checklists;
+
+        @Schema(title = "Custom Field IDs", description = "Custom fields set on the card")
+        private final List<String> customFieldIds;
     }
 }
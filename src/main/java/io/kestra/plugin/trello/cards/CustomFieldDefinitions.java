@@ -0,0 +1,97 @@
+package io.kestra.plugin.trello.cards;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Custom field definitions of one board, looked up by ID or name, used to turn plain values into the
+ * type-specific value objects Trello expects.
+ */
+final class CustomFieldDefinitions {
+    record Definition(String id, String name, String type, Map<String, String> optionIds) {
+    }
+
+    private final Map<String, Definition> byId = new HashMap<>();
+    private final Map<String, Definition> byName = new HashMap<>();
+
+    static CustomFieldDefinitions parse(JsonNode fields) {
+        CustomFieldDefinitions definitions = new CustomFieldDefinitions();
+
+        for (JsonNode field : fields) {
+            Map<String, String> optionIds = new HashMap<>();
+            for (JsonNode option : field.path("options")) {
+                optionIds.put(option.path("value").path("text").asText(), option.path("id").asText());
+            }
+
+            Definition definition = new Definition(
+                field.path("id").asText(),
+                field.path("name").asText(),
+                field.path("type").asText("text"),
+                Map.copyOf(optionIds)
+            );
+            definitions.byId.put(definition.id(), definition);
+            definitions.byName.putIfAbsent(definition.name(), definition);
+        }
+
+        return definitions;
+    }
+
+    Definition resolve(String field, String boardId) {
+        Definition definition = byId.containsKey(field) ? byId.get(field) : byName.get(field);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown custom field '" + field + "' on board " + boardId);
+        }
+        return definition;
+    }
+
+    /**
+     * Builds one entry of the batch update body for a field whose definition is not at hand, its type inferred from
+     * the value: a boolean sets a checkbox, a number a number field, anything else a text field. A map already holding
+     * {@code value} or {@code idValue} is sent as is.
+     */
+    static Map<String, Object> item(String fieldId, Object value) {
+        if (value instanceof Map<?, ?> map && (map.containsKey("value") || map.containsKey("idValue"))) {
+            Map<String, Object> item = new HashMap<>();
+            map.forEach((key, entry) -> item.put(String.valueOf(key), entry));
+            item.put("idCustomField", fieldId);
+            return item;
+        }
+
+        String type = value instanceof Boolean ? "checkbox" : value instanceof Number ? "number" : "text";
+        return item(new Definition(fieldId, fieldId, type, Map.of()), value);
+    }
+
+    /**
+     * Builds one entry of the batch update body. A {@code null} value clears the field; a map is passed through as
+     * Trello's {@code value} object.
+     */
+    static Map<String, Object> item(Definition definition, Object value) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("idCustomField", definition.id());
+
+        if (definition.type().equals("list")) {
+            String text = value == null ? "" : String.valueOf(value);
+            // Accept either the option label or its ID
+            item.put("idValue", definition.optionIds().getOrDefault(text, text));
+            return item;
+        }
+
+        if (value == null) {
+            item.put("value", "");
+        } else if (value instanceof Map<?, ?> map) {
+            item.put("value", map);
+        } else {
+            String key = switch (definition.type()) {
+                case "checkbox" -> "checked";
+                case "number" -> "number";
+                case "date" -> "date";
+                default -> "text";
+            };
+            item.put("value", Map.of(key, String.valueOf(value)));
+        }
+
+        return item;
+    }
+}
@@ -0,0 +1,188 @@
+package io.kestra.plugin.trello.cards;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Due dates of the open cards of one board, with a min-heap ordered by due time so an evaluation only touches the
+ * cards whose reminder is due. A changed due date bumps the card's generation and pushes a new heap slot; the old slot
+ * is dropped when it reaches the top, so no heap search is ever needed. Only the card map is persisted, the heap is
+ * rebuilt from it on load.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+final class DueIndex {
+    private static final int FORMAT_VERSION = 1;
+
+    private int version = FORMAT_VERSION;
+    private String boardId;
+    private String checkpoint;
+    private Map<String, Entry> cards = new HashMap<>();
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    private final PriorityQueue<Slot> queue = new PriorityQueue<>(Comparator.comparingLong(Slot::due).thenComparing(Slot::cardId));
+
+    // Not persisted: whether anything changed since the index was loaded or last stored
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean dirty;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static final class Entry {
+        // Epoch milliseconds
+        private long due;
+        private int generation;
+        private boolean fired;
+        private String name;
+        private String url;
+    }
+
+    private record Slot(long due, String cardId, int generation) {
+    }
+
+    /** Indexes the card's due date, or drops the card when {@code due} is null. Name and URL are kept when null. */
+    void put(String cardId, Instant due, String name, String url) {
+        if (due == null) {
+            remove(cardId);
+            return;
+        }
+
+        Entry entry = cards.get(cardId);
+        if (entry == null) {
+            entry = new Entry();
+            cards.put(cardId, entry);
+        } else if (entry.due == due.toEpochMilli()) {
+            rename(cardId, name, url);
+            return;
+        }
+
+        entry.due = due.toEpochMilli();
+        entry.generation++;
+        entry.fired = false;
+        entry.name = name != null ? name : entry.name;
+        entry.url = url != null ? url : entry.url;
+        queue.add(new Slot(entry.due, cardId, entry.generation));
+        dirty = true;
+    }
+
+    void rename(String cardId, String name, String url) {
+        Entry entry = cards.get(cardId);
+        if (entry == null) {
+            return;
+        }
+        if (name != null && !name.equals(entry.name)) {
+            entry.name = name;
+            dirty = true;
+        }
+        if (url != null && !url.equals(entry.url)) {
+            entry.url = url;
+            dirty = true;
+        }
+    }
+
+    // The card's heap slots become stale and are skipped when they reach the top
+    void remove(String cardId) {
+        if (cards.remove(cardId) != null) {
+            dirty = true;
+        }
+    }
+
+    /** Takes every card due at or before {@code horizon} that was not taken yet, earliest first. */
+    List<Map.Entry<String, Entry>> pollDue(Instant horizon) {
+        List<Map.Entry<String, Entry>> due = new ArrayList<>();
+
+        while (!queue.isEmpty() && queue.peek().due() <= horizon.toEpochMilli()) {
+            Slot slot = queue.poll();
+            Entry entry = cards.get(slot.cardId());
+            if (entry == null || entry.generation != slot.generation() || entry.fired) {
+                continue;
+            }
+
+            entry.fired = true;
+            dirty = true;
+            due.add(Map.entry(slot.cardId(), entry));
+        }
+
+        // A long-lived index accumulates stale slots from rescheduled cards; rebuild once they outnumber live ones
+        if (queue.size() > 2 * cards.size() + 64) {
+            rebuildQueue();
+        }
+
+        return due;
+    }
+
+    void setCheckpoint(String checkpoint) {
+        if (checkpoint != null && !checkpoint.equals(this.checkpoint)) {
+            this.checkpoint = checkpoint;
+            dirty = true;
+        }
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void markStored() {
+        dirty = false;
+    }
+
+    int size() {
+        return cards.size();
+    }
+
+    String serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            JacksonMapper.ofJson().writeValue(out, this);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    static DueIndex deserialize(String value) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+            DueIndex index = JacksonMapper.ofJson().readValue(in, DueIndex.class);
+            if (index.version != FORMAT_VERSION) {
+                // An index written by another format version is rebuilt from a board scan
+                return new DueIndex();
+            }
+            index.rebuildQueue();
+            return index;
+        }
+    }
+
+    private void rebuildQueue() {
+        queue.clear();
+        cards.forEach((cardId, entry) -> {
+            if (!entry.fired) {
+                queue.add(new Slot(entry.due, cardId, entry.generation));
+            }
+        });
+    }
+}
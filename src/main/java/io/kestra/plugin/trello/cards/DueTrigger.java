@@ -0,0 +1,334 @@
+package io.kestra.plugin.trello.cards;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.PollingTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTrigger;
+import io.kestra.plugin.trello.StateStore;
+import io.kestra.plugin.trello.client.TrelloApiException;
+import io.kestra.plugin.trello.client.TrelloClient;
+import io.kestra.plugin.trello.client.TrelloRef;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Trigger before Trello cards are due",
+    description = "Starts an execution for open, not completed cards of a board once their due date is less than `leadTime` away. " +
+        "The due dates are kept in an index ordered by due time, stored in the namespace KV store and cached by the worker; each evaluation applies the board's card actions since the previous one (new, moved, closed, completed, deleted cards and due date changes) and only pops the cards that became due, instead of scanning the board. " +
+        "The board is scanned once, when the index is first built; cards already past due at that point are not emitted"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Send a reminder one day before a card is due",
+            full = true,
+            code = """
+                id: trello_due_reminders
+                namespace: company.team
+
+                tasks:
+                  - id: remind
+                    type: io.kestra.plugin.core.flow.ForEach
+                    values: "{{ trigger.cards }}"
+                    tasks:
+                      - id: log
+                        type: io.kestra.plugin.core.log.Log
+                        message: "{{ json(taskrun.value).cardName }} is due on {{ json(taskrun.value).due }}"
+
+                triggers:
+                  - id: due_soon
+                    type: io.kestra.plugin.trello.cards.DueTrigger
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardId: "5abbe4b7ddc1b351ef961416"
+                    leadTime: PT24H
+                """
+        )
+    }
+)
+public class DueTrigger extends AbstractTrelloTrigger implements PollingTriggerInterface, TriggerOutput<DueTrigger.Output> {
+
+    private static final int PAGE_SIZE = 1000;
+
+    // Card actions that can add a card to the index, drop it, or change its due date
+    private static final String CARD_ACTIONS = "createCard,copyCard,moveCardToBoard,convertToCardFromCheckItem,updateCard,deleteCard,moveCardFromBoard";
+
+    private static final String CARD_FIELDS = "id,name,shortUrl,due,dueComplete,closed";
+
+    private static final String INDEX_STATE = "due_index";
+
+    private static final String REVISION_STATE = "due_revision";
+
+    private static final int MAX_CACHED_INDEXES = 100;
+
+    // Indexes of this worker's triggers, reused while the stored revision matches. The least recently evaluated ones
+    // are dropped past the cap, which also lets go of the indexes of deleted or disabled triggers
+    private static final Map<String, CachedIndex> INDEXES = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedIndex> eldest) {
+            return size() > MAX_CACHED_INDEXES;
+        }
+    });
+
+    @Schema(title = "Board ID", description = "Trello board whose cards are watched")
+    @NotNull
+    @PluginProperty(group = "main")
+    protected Property<String> boardId;
+
+    @Schema(title = "Lead Time", description = "How long before its due date a card is emitted. Defaults to `PT24H`")
+    @PluginProperty(group = "main")
+    @Builder.Default
+    protected Property<Duration> leadTime = Property.ofValue(Duration.ofHours(24));
+
+    @Schema(title = "Polling Interval", description = "Time between Trello checks. Defaults to `PT5M`")
+    @PluginProperty(group = "execution")
+    @Builder.Default
+    private Duration interval = Duration.ofMinutes(5);
+
+    @Override
+    public Duration getInterval() {
+        return this.interval;
+    }
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+
+        String rBoardId = runContext.render(this.boardId).as(String.class).orElseThrow();
+        Duration rLeadTime = runContext.render(this.leadTime).as(Duration.class).orElse(Duration.ofHours(24));
+
+        StateStore stateStore = StateStore.ofTrigger(runContext, context);
+        String key = context.getTenantId() + "/" + context.getNamespace() + "/" + context.getFlowId() + "/" + context.getTriggerId();
+        DueIndex index = loadIndex(runContext, stateStore, key);
+        List<DueCard> cards;
+        try {
+            try (TrelloClient client = client(runContext)) {
+                if (index.getCheckpoint() == null || !rBoardId.equals(index.getBoardId())) {
+                    index = buildIndex(runContext, client, rBoardId);
+                } else {
+                    applyChanges(runContext, client, index);
+                }
+            }
+
+            cards = index.pollDue(Instant.now().plus(rLeadTime)).stream()
+                .map(entry -> DueCard.builder()
+                    .cardId(entry.getKey())
+                    .cardName(entry.getValue().getName())
+                    .cardUrl(entry.getValue().getUrl())
+                    .due(Instant.ofEpochMilli(entry.getValue().getDue()))
+                    .build())
+                .toList();
+
+            if (index.isDirty()) {
+                String revision = UUID.randomUUID().toString();
+                stateStore.put(INDEX_STATE, index.serialize());
+                stateStore.put(REVISION_STATE, revision);
+                index.markStored();
+                INDEXES.put(key, new CachedIndex(revision, index));
+            }
+        } catch (Exception e) {
+            // The cached index may be partly updated; the next evaluation reloads the stored one
+            INDEXES.remove(key);
+            throw e;
+        }
+
+        if (cards.isEmpty()) {
+            runContext.logger().info("No cards due within {} among {} indexed cards", rLeadTime, index.size());
+            return Optional.empty();
+        }
+
+        runContext.logger().info("{} cards due within {}", cards.size(), rLeadTime);
+
+        Output output = Output.builder()
+            .count(cards.size())
+            .cards(cards)
+            .build();
+
+        return Optional.of(TriggerService.generateExecution(this, conditionContext, context, output));
+    }
+
+    // The cached index is only trusted while it is the last one stored, as another worker may have evaluated since
+    private static DueIndex loadIndex(RunContext runContext, StateStore stateStore, String key) throws Exception {
+        Optional<String> revision = stateStore.get(REVISION_STATE);
+        if (revision.isEmpty()) {
+            return new DueIndex();
+        }
+
+        CachedIndex cached = INDEXES.get(key);
+        if (cached != null && cached.revision().equals(revision.get())) {
+            return cached.index();
+        }
+
+        Optional<String> stored = stateStore.get(INDEX_STATE);
+        if (stored.isEmpty()) {
+            return new DueIndex();
+        }
+
+        try {
+            DueIndex index = DueIndex.deserialize(stored.get());
+            INDEXES.put(key, new CachedIndex(revision.get(), index));
+            return index;
+        } catch (Exception e) {
+            runContext.logger().warn("Unreadable due date index, rebuilding it from the board", e);
+            return new DueIndex();
+        }
+    }
+
+    private static DueIndex buildIndex(RunContext runContext, TrelloClient client, String boardId) throws Exception {
+        DueIndex index = new DueIndex();
+        index.setBoardId(boardId);
+
+        // Taken before the scan so changes made during it are applied by the next evaluation
+        List<TrelloRef> latest = client.getList("boards/" + boardId + "/actions?fields=id&limit=1", TrelloRef.class, "actions of board " + boardId);
+        index.setCheckpoint(latest.isEmpty() ? "" : latest.getFirst().id());
+
+        client.stream("boards/" + boardId + "/cards?filter=open&fields=" + CARD_FIELDS, FetchedCard.class, "cards of board " + boardId,
+            card -> apply(index, card));
+
+        // Cards already past due are not announced, only those reaching their lead time from now on
+        index.pollDue(Instant.now());
+
+        runContext.logger().info("Indexed the due dates of {} cards of board {}", index.size(), boardId);
+        return index;
+    }
+
+    /**
+     * Applies the board's card actions since the checkpoint, oldest first. Due date, completion, and closing changes
+     * carry the new value in the action; cards that appear on the board are fetched once the actions are applied.
+     */
+    private static void applyChanges(RunContext runContext, TrelloClient client, DueIndex index) throws Exception {
+        String boardId = index.getBoardId();
+        List<CardAction> actions = new ArrayList<>();
+        String checkpoint = index.getCheckpoint().isEmpty() ? null : index.getCheckpoint();
+
+        String endpoint = "boards/" + boardId + "/actions?filter=" + CARD_ACTIONS + "&fields=id,type,data&memberCreator=false"
+            + (checkpoint != null ? "&since=" + checkpoint : "");
+        client.streamPages(endpoint, PAGE_SIZE, CardAction.class, CardAction::id, checkpoint, "actions of board " + boardId, actions::add);
+
+        actions.sort(Comparator.comparing(CardAction::id));
+
+        Set<String> refetch = new LinkedHashSet<>();
+        for (CardAction action : actions) {
+            Map<String, Object> card = action.data() != null && action.data().card() != null ? action.data().card() : Map.of();
+            Map<String, Object> old = action.data() != null && action.data().old() != null ? action.data().old() : Map.of();
+            if (!(card.get("id") instanceof String cardId)) {
+                continue;
+            }
+
+            String name = card.get("name") instanceof String value ? value : null;
+            String url = card.get("shortLink") instanceof String value ? "https://trello.com/c/" + value : null;
+
+            switch (action.type()) {
+                case "deleteCard", "moveCardFromBoard" -> {
+                    index.remove(cardId);
+                    refetch.remove(cardId);
+                }
+                case "updateCard" -> {
+                    if (Boolean.TRUE.equals(card.get("closed")) || Boolean.TRUE.equals(card.get("dueComplete"))) {
+                        index.remove(cardId);
+                        refetch.remove(cardId);
+                    } else if (old.containsKey("closed") || old.containsKey("dueComplete")) {
+                        // Reopened or marked not done again: its due date is not part of the action
+                        refetch.add(cardId);
+                    } else if (old.containsKey("due")) {
+                        index.put(cardId, card.get("due") instanceof String due ? Instant.parse(due) : null, name, url);
+                    } else {
+                        index.rename(cardId, name, url);
+                    }
+                }
+                default -> refetch.add(cardId);
+            }
+        }
+
+        for (String cardId : refetch) {
+            try {
+                apply(index, client.get("cards/" + cardId + "?fields=" + CARD_FIELDS, FetchedCard.class, "card " + cardId));
+            } catch (TrelloApiException e) {
+                if (e.getStatusCode() != 404) {
+                    throw e;
+                }
+                index.remove(cardId);
+            }
+        }
+
+        if (!actions.isEmpty()) {
+            index.setCheckpoint(actions.getLast().id());
+            runContext.logger().debug("Applied {} card actions to the due date index, fetched {} cards", actions.size(), refetch.size());
+        }
+    }
+
+    private static void apply(DueIndex index, FetchedCard card) {
+        if (card.closed() || card.dueComplete()) {
+            index.remove(card.id());
+        } else {
+            index.put(card.id(), card.due(), card.name(), card.shortUrl());
+        }
+    }
+
+    private record CachedIndex(String revision, DueIndex index) {
+    }
+
+    private record FetchedCard(String id, String name, String shortUrl, Instant due, boolean dueComplete, boolean closed) {
+    }
+
+    // Card fields stay untyped so an explicit null due date can be told apart from an absent one
+    private record CardAction(String id, String type, Data data) {
+        private record Data(Map<String, Object> card, Map<String, Object> old) {
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Due Card Count", description = "Number of cards in `cards`")
+        private final Integer count;
+
+        @Schema(title = "Due Cards", description = "Cards whose due date came within `leadTime`, earliest due first")
+        private final List<DueCard> cards;
+    }
+
+    @Builder
+    @Getter
+    public static class DueCard {
+        @Schema(title = "Card ID", description = "Trello card ID")
+        private final String cardId;
+
+        @Schema(title = "Card Name", description = "Card name as last seen by the index")
+        private final String cardName;
+
+        @Schema(title = "Card URL", description = "Short Trello URL for the card")
+        private final String cardUrl;
+
+        @Schema(title = "Due Date", description = "When the card is due")
+        private final Instant due;
+    }
+}
@@ -1,17 +1,31 @@
 package io.kestra.plugin.trello.cards;
 
-import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 
-import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
-import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
@@ -21,11 +35,17 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.triggers.*;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.trello.AbstractTrelloTrigger;
+import io.kestra.plugin.trello.StateStore;
+import io.kestra.plugin.trello.client.BoundedParallel;
+import io.kestra.plugin.trello.client.TrelloClient;
+import io.kestra.plugin.trello.client.TrelloRef;
 
+import io.opentelemetry.context.Context;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
 
 @SuperBuilder
 @NoArgsConstructor
@@ -34,7 +54,10 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode
 @Schema(
     title = "Poll Trello cards for changes",
-    description = "Polls Trello list and board card endpoints and triggers an execution when `dateLastActivity` is newer than the previous interval window. Defaults to `PT5M`; if you set both `boardId` and `lists`, both sources are polled and the same card can appear more than once"
+    description = "Polls Trello list and board card endpoints and triggers an execution for cards whose `dateLastActivity` is newer than the high-water mark stored for each board or list in the namespace KV store; the first poll of a source looks back one `interval`. " +
+        "After downtime, missed changes are emitted oldest first, at most `maxCardsPerEvaluation` per evaluation, until the trigger has caught up. Set `batchSize` to split cards into one execution per card or per batch of cards. Defaults to `PT5M`; if you set both `boardId` and `lists`, lists that belong to the board are served from the single board request and each card is emitted once. " +
+        "Set `organizationId` to poll every open board of a Trello workspace; boards are discovered through `organizations/{id}/boards`, refreshed every `boardsRefreshInterval`, polled with at most `maxConcurrency` parallel requests, and can be split across several triggers with `shardCount` and `shardIndex`. " +
+        "Optional filters (`cardStatus`, `labelIds`, `memberIds`, `boardListIds`, `dueAfter`, `dueBefore`, `nameRegex`) are applied while each card is parsed, and `cardStatus` is also sent to Trello as the `filter` query parameter, so cards that do not match never start an execution"
 )
 
 @Plugin(
@@ -116,30 +139,115 @@ import lombok.experimental.SuperBuilder;
                     boardId: "5abbe4b7ddc1b351ef961416"
                     interval: PT15M
                 """
+        ),
+        @Example(
+            title = "Start one execution per changed card",
+            full = true,
+            code = """
+                id: trello_card_per_execution
+                namespace: company.team
+
+                tasks:
+                  - id: log_card
+                    type: io.kestra.plugin.core.log.Log
+                    message: "Card {{ trigger.cards[0].cardName }} was {{ trigger.cards[0].action }}"
+
+                triggers:
+                  - id: card_trigger
+                    type: io.kestra.plugin.trello.cards.Trigger
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardId: "5abbe4b7ddc1b351ef961416"
+                    batchSize: 1
+                """
+        ),
+        @Example(
+            title = "Monitor every board of a workspace, split across two triggers",
+            full = true,
+            code = """
+                id: trello_workspace_monitor
+                namespace: company.team
+
+                tasks:
+                  - id: log_cards
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.cards | length }} cards changed in the workspace"
+
+                triggers:
+                  - id: workspace_shard_0
+                    type: io.kestra.plugin.trello.cards.Trigger
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    organizationId: "5abbe4b7ddc1b351ef961430"
+                    shardCount: 2
+                    shardIndex: 0
+                    maxConcurrency: 8
+
+                  - id: workspace_shard_1
+                    type: io.kestra.plugin.trello.cards.Trigger
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    organizationId: "5abbe4b7ddc1b351ef961430"
+                    shardCount: 2
+                    shardIndex: 1
+                    maxConcurrency: 8
+                """
+        ),
+        @Example(
+            title = "Monitor open cards with a given label that are due within the next day",
+            full = true,
+            code = """
+                id: trello_urgent_cards
+                namespace: company.team
+
+                tasks:
+                  - id: log_cards
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.cards | length }} urgent cards changed"
+
+                triggers:
+                  - id: urgent_cards
+                    type: io.kestra.plugin.trello.cards.Trigger
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardId: "5abbe4b7ddc1b351ef961416"
+                    cardStatus: OPEN
+                    labelIds:
+                      - "5abbe4b7ddc1b351ef961420"
+                    dueBefore: "{{ now() | dateAdd(1, 'DAYS') }}"
+                    nameRegex: "^INC-"
+                """
         )
     }
 )
-public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output> {
+public class Trigger extends AbstractTrelloTrigger implements PollingTriggerInterface, TriggerOutput<Trigger.Output> {
 
-    @Schema(title = "Trello API Key", description = "API key used to authenticate Trello requests. Render this from a secret")
-    @NotNull
-    @PluginProperty(secret = true, group = "main")
-    protected Property<String> apiKey;
+    private static final String CARD_FIELDS = "id,name,desc,idList,idBoard,shortUrl,dateLastActivity,due,closed,idLabels,idMembers";
 
-    @Schema(title = "Trello API Token", description = "API token used to authenticate Trello requests. Render this from a secret")
-    @NotNull
-    @PluginProperty(secret = true, group = "main")
-    protected Property<String> apiToken;
+    private static final String FINGERPRINTS_STATE = "fingerprints";
 
-    @Schema(title = "API Version", description = "Trello REST API version appended to the base URL. Defaults to `1`")
-    @Builder.Default
-    @PluginProperty(group = "advanced")
-    protected Property<String> apiVersion = Property.ofValue("1");
+    private static final String WATERMARKS_STATE = "watermarks";
 
-    @Schema(title = "Base API URL", description = "Base URL for Trello API requests. Defaults to `https://api.trello.com`; override only for compatible proxies or tests")
-    @Builder.Default
-    @PluginProperty(group = "connection")
-    protected Property<String> apiBaseUrl = Property.ofValue("https://api.trello.com");
+    private static final String PENDING_STATE = "pending";
+
+    private static final String CURSOR_STATE = "cursor";
+
+    private static final String BOARD_SOURCE = "board:";
+
+    private static final String LIST_SOURCE = "list:";
+
+    // Margin between the worker clock and Trello's activity timestamps when closing a paged pass
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private static final Duration BOARD_LISTS_TTL = Duration.ofMinutes(10);
+
+    private static final int MAX_CACHED_ID_SETS = 100;
+
+    // List IDs of the boards polled most recently; the least recently used boards are dropped past the cap
+    private static final Map<String, CachedIds> BOARD_LISTS_CACHE = idCache();
+
+    // Open boards of the workspaces polled most recently, under the same cap
+    private static final Map<String, CachedIds> ORGANIZATION_BOARDS_CACHE = idCache();
 
     @Schema(title = "List IDs", description = "Trello list IDs to poll for new or updated cards")
     @PluginProperty(group = "advanced")
@@ -149,6 +257,80 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
     @PluginProperty(group = "advanced")
     protected Property<String> boardId;
 
+    @Schema(title = "Organization ID", description = "Trello workspace (organization) ID or name; every open board of the workspace is polled")
+    @PluginProperty(group = "advanced")
+    protected Property<String> organizationId;
+
+    @Schema(title = "Boards Refresh Interval", description = "How long the list of workspace boards is cached before it is fetched again. Defaults to `PT1H`")
+    @PluginProperty(group = "advanced")
+    @Builder.Default
+    protected Property<Duration> boardsRefreshInterval = Property.ofValue(Duration.ofHours(1));
+
+    @Schema(title = "Shard Count", description = "Split workspace boards into this many shards by board ID hash so several triggers can share a workspace. Defaults to `1`")
+    @PluginProperty(group = "advanced")
+    @Builder.Default
+    protected Property<Integer> shardCount = Property.ofValue(1);
+
+    @Schema(title = "Shard Index", description = "Zero-based shard polled by this trigger, lower than `shardCount`. Defaults to `0`")
+    @PluginProperty(group = "advanced")
+    @Builder.Default
+    protected Property<Integer> shardIndex = Property.ofValue(0);
+
+    @Schema(title = "Max Concurrency", description = "Maximum number of boards and lists fetched in parallel. Defaults to `4`")
+    @PluginProperty(group = "execution")
+    @Builder.Default
+    protected Property<Integer> maxConcurrency = Property.ofValue(4);
+
+    @Schema(title = "Card Status", description = "Only emit `OPEN`, `CLOSED`, or `ALL` cards. Sent to Trello as the `filter` query parameter; when unset, Trello's default (open cards) applies")
+    @PluginProperty(group = "advanced")
+    protected Property<CardStatus> cardStatus;
+
+    @Schema(title = "Label IDs", description = "Only emit cards carrying at least one of these label IDs")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> labelIds;
+
+    @Schema(title = "Member IDs", description = "Only emit cards assigned to at least one of these member IDs")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> memberIds;
+
+    @Schema(title = "Board List IDs", description = "Only emit board cards that sit in one of these list IDs. Applies to cards read through `boardId`; entries of `lists` that belong to the board are added to this filter")
+    @PluginProperty(group = "advanced")
+    protected Property<List<String>> boardListIds;
+
+    @Schema(title = "Due After", description = "Only emit cards whose due date is at or after this ISO-8601 date-time. Cards without a due date are skipped")
+    @PluginProperty(group = "advanced")
+    protected Property<String> dueAfter;
+
+    @Schema(title = "Due Before", description = "Only emit cards whose due date is at or before this ISO-8601 date-time. Cards without a due date are skipped")
+    @PluginProperty(group = "advanced")
+    protected Property<String> dueBefore;
+
+    @Schema(title = "Name Regex", description = "Only emit cards whose name contains a match for this Java regular expression")
+    @PluginProperty(group = "advanced")
+    protected Property<String> nameRegex;
+
+    @Schema(title = "Track Field Changes", description = "Keep a compact per-field fingerprint of every emitted card in the namespace KV store and report `changedFields` and `changes` on cards seen before. A card seen archived is reported with its `closed` change and then forgotten, so the fingerprints follow the open cards. Defaults to `false`")
+    @PluginProperty(group = "advanced")
+    @Builder.Default
+    protected Property<Boolean> trackChanges = Property.ofValue(false);
+
+    @Schema(title = "Max Cards per Evaluation", description = "Maximum number of cards emitted by one evaluation. Older changes are emitted first and the rest is caught up by the following evaluations. Defaults to `500`")
+    @PluginProperty(group = "execution")
+    @Builder.Default
+    protected Property<Integer> maxCardsPerEvaluation = Property.ofValue(500);
+
+    @Schema(title = "Batch Size", description = "Maximum number of cards per execution; `1` creates one execution per card. Cards beyond the first batch are kept in the namespace KV store and emitted in order by the next evaluations, which run right away instead of waiting for `interval`. When unset, every card found by an evaluation goes into a single execution")
+    @PluginProperty(group = "execution")
+    protected Property<Integer> batchSize;
+
+    @Schema(title = "Evaluation Timeout", description = "Time budget for one evaluation, including a Trello request still in flight. When it runs out, the cards read so far are emitted and the next evaluation resumes from the same board or list, and page when `pageSize` is set, instead of starting over")
+    @PluginProperty(group = "execution")
+    protected Property<Duration> evaluationTimeout;
+
+    @Schema(title = "Page Size", description = "Read cards in pages of this size with Trello's `limit` and `before` parameters, so a time-limited evaluation can stop and resume inside a large board or list. When unset, each board or list is read in one request")
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> pageSize;
+
     @Schema(title = "Polling Interval", description = "Time between Trello checks. Defaults to `PT5M`")
     @PluginProperty(group = "execution")
     @Builder.Default
@@ -163,62 +345,162 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
     public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
         RunContext runContext = conditionContext.getRunContext();
 
-        String rApiKey = runContext.render(this.apiKey).as(String.class).orElseThrow();
-        String rApiToken = runContext.render(this.apiToken).as(String.class).orElseThrow();
-        String rVersion = runContext.render(this.apiVersion).as(String.class).orElse("1");
-        String rBaseUrl = runContext.render(this.apiBaseUrl).as(String.class).orElse("https://api.trello.com");
-
         List<String> rListIds = runContext.render(this.lists).asList(String.class);
         List<String> listsToMonitor = new ArrayList<>(rListIds);
 
         runContext.logger().info("Monitoring {} lists for card changes", listsToMonitor.size());
 
-        // Calculate last check time based on trigger context
+        // Sources polled for the first time start from the previous interval window, then from their stored high-water mark
         Instant lastCheckTime = context.getNextExecutionDate() != null
             ? context.getNextExecutionDate().toInstant().minus(this.interval)
             : Instant.now().minus(this.interval);
+        Watermark initialWatermark = new Watermark(lastCheckTime, "");
+
+        StateStore stateStore = StateStore.ofTrigger(runContext, context);
+
+        // Drain batches left by a previous evaluation before polling Trello again, which keeps per-card order
+        Integer rBatchSize = runContext.render(this.batchSize).as(Integer.class).orElse(null);
+        if (rBatchSize != null) {
+            List<CardData> pending = readPending(stateStore);
+            if (!pending.isEmpty()) {
+                return Optional.of(emitBatch(runContext, conditionContext, context, stateStore, pending, rBatchSize));
+            }
+        }
 
-        List<CardData> newOrUpdatedCards = new ArrayList<>();
+        Map<String, Watermark> watermarks = readWatermarks(stateStore);
+        Cursor cursor = readCursor(stateStore);
+        Instant evaluationStart = Instant.now();
 
-        try (
-            HttpClient httpClient = HttpClient.builder()
-                .runContext(runContext)
-                .build()
-        ) {
+        CardFilter listFilter = renderFilter(runContext);
+        Set<String> rBoardListIds = toSet(runContext.render(this.boardListIds).asList(String.class));
+        String query = buildCardsQuery(runContext);
+
+        // Cards are keyed by ID so a card reachable from several sources is only emitted once
+        Map<String, ParsedCard> newOrUpdatedCards = new LinkedHashMap<>();
+        Map<String, List<String>> cardSources = new HashMap<>();
+        List<SourceResult> results = new ArrayList<>();
+        int nextSourceIndex = -1;
+
+        try (TrelloClient client = client(runContext)) {
+            String rBoardId = runContext.render(this.boardId).as(String.class).orElse(null);
+            String rOrganizationId = runContext.render(this.organizationId).as(String.class).orElse(null);
+
+            Set<String> boardsToMonitor = new LinkedHashSet<>();
 
             // If boardId is specified, get all cards from the board
-            if (this.boardId != null) {
-                String rBoardId = runContext.render(this.boardId).as(String.class).orElse(null);
-                if (rBoardId != null) {
-                    newOrUpdatedCards.addAll(
-                        getCardsFromBoard(
-                            runContext, httpClient, rBaseUrl, rVersion,
-                            rApiKey, rApiToken, rBoardId, lastCheckTime
-                        )
-                    );
+            if (rBoardId != null) {
+                boardsToMonitor.add(rBoardId);
+
+                // Lists on the configured board are already covered by the board request
+                if (!listsToMonitor.isEmpty()) {
+                    Set<String> onBoard = getBoardListIds(runContext, client, rBoardId);
+                    List<String> boardLists = listsToMonitor.stream().filter(onBoard::contains).toList();
+                    listsToMonitor.removeAll(boardLists);
+
+                    if (rBoardListIds != null) {
+                        rBoardListIds.addAll(boardLists);
+                    }
                 }
             }
 
-            // Get cards from specified lists
-            for (String listId : listsToMonitor) {
-                newOrUpdatedCards.addAll(
-                    getCardsFromList(
-                        runContext, httpClient, rBaseUrl, rVersion,
-                        rApiKey, rApiToken, listId, lastCheckTime
-                    )
-                );
+            if (rOrganizationId != null) {
+                boardsToMonitor.addAll(getOrganizationBoardIds(runContext, client, rOrganizationId));
+            }
+
+            CardFilter boardFilter = listFilter.toBuilder()
+                .listIds(rBoardListIds)
+                .build();
+
+            // Sources are polled in a stable order, starting where the previous evaluation ran out of time
+            List<String> sources = new ArrayList<>();
+            boardsToMonitor.forEach(board -> sources.add(boardSource(board)));
+            listsToMonitor.forEach(listId -> sources.add(listSource(listId)));
+
+            int start = cursor.sourceIndex() < sources.size() ? cursor.sourceIndex() : 0;
+            Integer rPageSize = runContext.render(this.pageSize).as(Integer.class).orElse(null);
+            Instant deadline = runContext.render(this.evaluationTimeout).as(Duration.class)
+                .map(evaluationStart::plus)
+                .orElse(null);
+
+            List<Callable<SourceResult>> fetches = new ArrayList<>();
+            for (int i = 0; i < sources.size(); i++) {
+                String source = sources.get((start + i) % sources.size());
+                Watermark since = watermarks.getOrDefault(source, initialWatermark);
+                SourcePass pass = cursor.passes().get(source);
+                String endpoint = source.startsWith(BOARD_SOURCE)
+                    ? "boards/" + source.substring(BOARD_SOURCE.length()) + "/cards" + query
+                    : "lists/" + source.substring(LIST_SOURCE.length()) + "/cards" + query;
+                CardFilter filter = source.startsWith(BOARD_SOURCE) ? boardFilter : listFilter;
+
+                fetches.add(() -> fetchSource(
+                    client, endpoint, source, filter, since, rPageSize, pass != null ? pass.before() : null, deadline
+                ));
+            }
+
+            Integer rMaxConcurrency = runContext.render(this.maxConcurrency).as(Integer.class).orElse(4);
+            List<SourceResult> fetched = BoundedParallel.invokeAll(fetches, rMaxConcurrency);
+            for (int i = 0; i < fetched.size(); i++) {
+                SourceResult result = fetched.get(i);
+                results.add(result);
+                for (ParsedCard card : result.cards()) {
+                    newOrUpdatedCards.putIfAbsent(card.data().getCardId(), card);
+                    cardSources.computeIfAbsent(card.data().getCardId(), id -> new ArrayList<>()).add(card.source());
+                }
+
+                if (!result.complete() && nextSourceIndex < 0) {
+                    nextSourceIndex = (start + i) % sources.size();
+                }
             }
         }
 
-        if (newOrUpdatedCards.isEmpty()) {
+        if (nextSourceIndex >= 0) {
+            runContext.logger().warn(
+                "Evaluation time budget exhausted, emitting what was read and resuming from source {} on the next evaluation",
+                nextSourceIndex
+            );
+        }
+
+        // Emit the oldest changes first and at most maxCardsPerEvaluation of them; the rest is picked up by the next evaluations
+        Integer rMaxCards = runContext.render(this.maxCardsPerEvaluation).as(Integer.class).orElse(500);
+        List<ParsedCard> chunk = newOrUpdatedCards.values().stream()
+            .sorted(Comparator.comparing(ParsedCard::watermark))
+            .limit(rMaxCards)
+            .toList();
+
+        Map<String, SourcePass> passes = advanceWatermarks(results, chunk, newOrUpdatedCards.values(), cardSources, watermarks, cursor, evaluationStart);
+        writeWatermarks(stateStore, watermarks);
+
+        Cursor nextCursor = new Cursor(Math.max(nextSourceIndex, 0), passes);
+        if (!nextCursor.equals(cursor)) {
+            stateStore.put(CURSOR_STATE, JacksonMapper.ofJson().writeValueAsString(nextCursor));
+        }
+
+        if (chunk.isEmpty()) {
             runContext.logger().info("No new or updated cards found");
             return Optional.empty();
         }
 
-        runContext.logger().info("Found {} new or updated cards", newOrUpdatedCards.size());
+        if (chunk.size() < newOrUpdatedCards.size()) {
+            runContext.logger().info(
+                "Found {} new or updated cards, emitting the {} oldest and catching up on the rest in the next evaluations",
+                newOrUpdatedCards.size(), chunk.size()
+            );
+        } else {
+            runContext.logger().info("Found {} new or updated cards", newOrUpdatedCards.size());
+        }
+
+        List<CardData> cards = chunk.stream().map(ParsedCard::data).toList();
+        if (runContext.render(this.trackChanges).as(Boolean.class).orElse(false)) {
+            cards = withChanges(runContext, context, chunk);
+        }
+
+        if (rBatchSize != null) {
+            return Optional.of(emitBatch(runContext, conditionContext, context, stateStore, cards, rBatchSize));
+        }
 
         Output output = Output.builder()
-            .cards(newOrUpdatedCards)
+            .count(cards.size())
+            .cards(cards)
             .build();
 
         Execution execution = TriggerService.generateExecution(this, conditionContext, context, output);
@@ -226,67 +508,365 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
         return Optional.of(execution);
     }
 
-    private List<CardData> getCardsFromBoard(RunContext runContext, HttpClient httpClient, String baseUrl,
-        String version, String apiKey, String apiToken,
-        String boardId, Instant lastCheckTime) throws Exception {
-        String url = buildApiUrl(baseUrl, version, "boards/" + boardId + "/cards");
-        return fetchAndFilterCards(runContext, httpClient, url, apiKey, apiToken, lastCheckTime);
+    @Override
+    public ZonedDateTime nextEvaluationDate(ConditionContext conditionContext, Optional<? extends TriggerContext> last) throws Exception {
+        // Pending batches are emitted right away instead of waiting for the next polling interval. They are read from
+        // the KV store, so whichever scheduler evaluates the trigger next, or one restarted since, sees them too
+        if (last.isPresent() && conditionContext.getRunContext() != null && hasPending(StateStore.ofTrigger(conditionContext.getRunContext(), last.get()))) {
+            return ZonedDateTime.now();
+        }
+        return ZonedDateTime.now().plus(this.interval);
+    }
+
+    private Execution emitBatch(RunContext runContext, ConditionContext conditionContext, TriggerContext context,
+        StateStore stateStore, List<CardData> cards, int batchSize) throws Exception {
+        int size = Math.max(1, batchSize);
+        List<CardData> batch = cards.subList(0, Math.min(size, cards.size()));
+        List<CardData> remaining = cards.subList(batch.size(), cards.size());
+
+        stateStore.put(PENDING_STATE, JacksonMapper.ofJson().writeValueAsString(remaining));
+        if (!remaining.isEmpty()) {
+            runContext.logger().info("Emitting {} cards, {} cards left for the next executions", batch.size(), remaining.size());
+        }
+
+        Output output = Output.builder()
+            .count(batch.size())
+            .cards(List.copyOf(batch))
+            .build();
+
+        return TriggerService.generateExecution(this, conditionContext, context, output);
+    }
+
+    private static List<CardData> readPending(StateStore stateStore) throws Exception {
+        Optional<String> stored = stateStore.get(PENDING_STATE);
+        if (stored.isEmpty()) {
+            return List.of();
+        }
+        return JacksonMapper.ofJson().readValue(stored.get(), new TypeReference<List<CardData>>() {});
+    }
+
+    // Drained backlogs are stored as an empty list, so the batches themselves don't need to be parsed
+    private static boolean hasPending(StateStore stateStore) throws Exception {
+        return stateStore.get(PENDING_STATE).map(String::strip).filter(stored -> !stored.equals("[]")).isPresent();
+    }
+
+    private CardFilter renderFilter(RunContext runContext) throws Exception {
+        String rNameRegex = runContext.render(this.nameRegex).as(String.class).orElse(null);
+
+        return CardFilter.builder()
+            .status(runContext.render(this.cardStatus).as(CardStatus.class).orElse(null))
+            .labelIds(toSet(runContext.render(this.labelIds).asList(String.class)))
+            .memberIds(toSet(runContext.render(this.memberIds).asList(String.class)))
+            .dueAfter(runContext.render(this.dueAfter).as(String.class).map(Trigger::parseInstant).orElse(null))
+            .dueBefore(runContext.render(this.dueBefore).as(String.class).map(Trigger::parseInstant).orElse(null))
+            .namePattern(rNameRegex != null ? Pattern.compile(rNameRegex) : null)
+            .build();
+    }
+
+    private String buildCardsQuery(RunContext runContext) throws Exception {
+        StringBuilder query = new StringBuilder("?fields=").append(CARD_FIELDS);
+        runContext.render(this.cardStatus).as(CardStatus.class)
+            .ifPresent(status -> query.append("&filter=").append(status.queryValue()));
+        return query.toString();
+    }
+
+    private static Instant parseInstant(String value) {
+        return ZonedDateTime.parse(value).toInstant();
+    }
+
+    private static Set<String> toSet(List<String> values) {
+        return values == null || values.isEmpty() ? null : new HashSet<>(values);
+    }
+
+    private Set<String> getBoardListIds(RunContext runContext, TrelloClient client, String boardId) throws Exception {
+        String endpoint = "boards/" + boardId + "/lists?fields=id&filter=all";
+        Set<String> listIds = getCachedIds(client, BOARD_LISTS_CACHE, BOARD_LISTS_TTL, endpoint, "board lists");
+        runContext.logger().debug("Board {} has {} lists", boardId, listIds.size());
+        return listIds;
+    }
+
+    private List<String> getOrganizationBoardIds(RunContext runContext, TrelloClient client, String organizationId) throws Exception {
+        Duration rRefresh = runContext.render(this.boardsRefreshInterval).as(Duration.class).orElse(Duration.ofHours(1));
+        int rShardCount = runContext.render(this.shardCount).as(Integer.class).orElse(1);
+        int rShardIndex = runContext.render(this.shardIndex).as(Integer.class).orElse(0);
+
+        if (rShardCount < 1 || rShardIndex < 0 || rShardIndex >= rShardCount) {
+            throw new IllegalArgumentException(
+                "Invalid shard configuration: shardIndex " + rShardIndex + " must be between 0 and shardCount " + rShardCount + " (exclusive)"
+            );
+        }
+
+        String endpoint = "organizations/" + organizationId + "/boards?fields=id&filter=open";
+        Set<String> boardIds = getCachedIds(client, ORGANIZATION_BOARDS_CACHE, rRefresh, endpoint, "organization boards");
+
+        // String.hashCode is specified by the JLS, so every worker assigns a board to the same shard
+        List<String> shard = boardIds.stream()
+            .filter(id -> Math.floorMod(id.hashCode(), rShardCount) == rShardIndex)
+            .sorted()
+            .toList();
+
+        runContext.logger().info("Monitoring {} of {} boards in organization {} (shard {}/{})",
+            shard.size(), boardIds.size(), organizationId, rShardIndex, rShardCount);
+
+        return shard;
+    }
+
+    private static Map<String, CachedIds> idCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedIds> eldest) {
+                return size() > MAX_CACHED_ID_SETS;
+            }
+        });
     }
 
-    private List<CardData> getCardsFromList(RunContext runContext, HttpClient httpClient, String baseUrl,
-        String version, String apiKey, String apiToken,
-        String listId, Instant lastCheckTime) throws Exception {
-        String url = buildApiUrl(baseUrl, version, "lists/" + listId + "/cards");
-        return fetchAndFilterCards(runContext, httpClient, url, apiKey, apiToken, lastCheckTime);
+    private static Set<String> getCachedIds(TrelloClient client, Map<String, CachedIds> cache, Duration ttl,
+        String endpoint, String label) throws Exception {
+        String cacheKey = client.cacheKey(endpoint);
+        CachedIds cached = cache.get(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached.ids();
+        }
+
+        Set<String> ids = new HashSet<>();
+        client.stream(endpoint, TrelloRef.class, label, ref -> {
+            if (ref.id() != null) {
+                ids.add(ref.id());
+            }
+        });
+
+        cache.put(cacheKey, new CachedIds(Set.copyOf(ids), Instant.now().plus(ttl)));
+
+        return ids;
     }
 
-    private List<CardData> fetchAndFilterCards(RunContext runContext, HttpClient httpClient, String url,
-        String apiKey, String apiToken, Instant lastCheckTime) throws Exception {
-        List<CardData> results = new ArrayList<>();
+    private static String boardSource(String boardId) {
+        return BOARD_SOURCE + boardId;
+    }
 
-        HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
-            .method("GET")
-            .uri(URI.create(url))
-            .addHeader("Accept", "application/json");
+    private static String listSource(String listId) {
+        return LIST_SOURCE + listId;
+    }
 
-        HttpRequest request = addAuthHeaders(apiKey, apiToken, requestBuilder).build();
+    private static Map<String, Watermark> readWatermarks(StateStore stateStore) throws Exception {
+        Map<String, Watermark> watermarks = new HashMap<>();
+        Optional<String> stored = stateStore.get(WATERMARKS_STATE);
+        if (stored.isPresent()) {
+            Map<String, String> values = JacksonMapper.ofJson().readValue(stored.get(), new TypeReference<Map<String, String>>() {});
+            values.forEach((source, value) -> watermarks.put(source, Watermark.parse(value)));
+        }
+        return watermarks;
+    }
+
+    private static void writeWatermarks(StateStore stateStore, Map<String, Watermark> watermarks) throws Exception {
+        Map<String, String> values = new TreeMap<>();
+        watermarks.forEach((source, watermark) -> values.put(source, watermark.format()));
+        stateStore.put(WATERMARKS_STATE, JacksonMapper.ofJson().writeValueAsString(values));
+    }
 
-        HttpResponse<String> response = httpClient.request(request, String.class);
+    private List<CardData> withChanges(RunContext runContext, TriggerContext context, Collection<ParsedCard> parsedCards) throws Exception {
+        StateStore stateStore = StateStore.ofTrigger(runContext, context);
+        Optional<String> stored = stateStore.get(FINGERPRINTS_STATE);
+        CardFingerprints fingerprints = stored.isPresent() ? CardFingerprints.deserialize(stored.get()) : new CardFingerprints();
 
-        if (response.getStatus().getCode() != 200) {
-            throw new RuntimeException(
-                "Failed to fetch cards: " + response.getStatus().getCode() + " - " + response.getBody()
+        List<CardData> cards = new ArrayList<>(parsedCards.size());
+        for (ParsedCard parsedCard : parsedCards) {
+            List<CardFingerprints.Change> changes = fingerprints.update(
+                parsedCard.data().getCardId(),
+                CardFingerprints.Fingerprint.of(parsedCard.node()),
+                parsedCard.node()
             );
+
+            CardData.CardDataBuilder card = parsedCard.data().toBuilder();
+            if (changes != null) {
+                card.changedFields(changes.stream().map(CardFingerprints.Change::field).toList());
+                card.changes(changes.stream()
+                    .map(change -> FieldChange.builder()
+                        .field(change.field())
+                        .oldValue(change.oldValue())
+                        .newValue(change.newValue())
+                        .build()
+                    )
+                    .toList()
+                );
+            }
+            cards.add(card.build());
+        }
+
+        if (fingerprints.isDirty()) {
+            stateStore.put(FINGERPRINTS_STATE, fingerprints.serialize());
+            runContext.logger().debug("Stored fingerprints for {} cards", fingerprints.size());
+        }
+
+        return cards;
+    }
+
+    private SourceResult fetchSource(TrelloClient client, String endpoint, String source, CardFilter filter,
+        Watermark since, Integer pageSize, String resumeBefore, Instant deadline) throws Exception {
+        List<ParsedCard> results = new ArrayList<>();
+        String before = resumeBefore;
+
+        while (true) {
+            String pageEndpoint = pageSize == null ? endpoint : endpoint + "&limit=" + pageSize + (before != null ? "&before=" + before : "");
+            List<ParsedCard> pageCards = new ArrayList<>();
+            Page page = deadline == null
+                ? fetchAndFilterCards(client, pageEndpoint, source, filter, since, pageCards)
+                : fetchBefore(deadline, () -> fetchAndFilterCards(client, pageEndpoint, source, filter, since, pageCards));
+
+            // Out of time: the page in flight is dropped and read again by the next evaluation
+            if (page == null) {
+                return new SourceResult(source, results, false, before);
+            }
+            results.addAll(pageCards);
+
+            // A short page, or a server that ignores the cursor, ends the source
+            if (pageSize == null || page.count() < pageSize || page.lowestId() == null || page.lowestId().equals(before)) {
+                return new SourceResult(source, results, true, null);
+            }
+            before = page.lowestId();
+        }
+    }
+
+    /**
+     * Reads one page on its own thread and waits for it no longer than {@code deadline}, so a slow response cannot hold
+     * the evaluation for the whole HTTP timeout. Returns {@code null} when the deadline passes first; the request is
+     * then interrupted and its cards are discarded.
+     */
+    private static Page fetchBefore(Instant deadline, Callable<Page> read) throws Exception {
+        long remaining = Duration.between(Instant.now(), deadline).toMillis();
+        if (remaining <= 0) {
+            return null;
+        }
+
+        // The reading thread carries the caller's trace context so its request span stays parented to the evaluation
+        FutureTask<Page> task = new FutureTask<>(Context.current().wrap(read));
+        Thread.ofVirtual().name("trello-trigger-page").start(task);
+        try {
+            return task.get(remaining, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
         }
+    }
+
+    private Page fetchAndFilterCards(TrelloClient client, String endpoint, String source, CardFilter filter,
+        Watermark since, List<ParsedCard> results) throws Exception {
+        String[] lowestId = {null};
+
+        // Each card is checked against the filters as it is bound, before the next one is read
+        int count = client.stream(endpoint, JsonNode.class, "cards", cardNode -> {
+            String id = cardNode.path("id").asText(null);
+            if (id != null && (lowestId[0] == null || id.compareTo(lowestId[0]) < 0)) {
+                lowestId[0] = id;
+            }
+
+            ParsedCard parsedCard = parseCardData(cardNode, source, filter, since);
+            if (parsedCard != null) {
+                results.add(parsedCard);
+            }
+        });
+
+        return new Page(count, lowestId[0]);
+    }
+
+    /**
+     * Moves the high-water mark of every source past the emitted cards and returns the paged passes still in progress.
+     * A source read over several evaluations only gets a new mark once its pass completes, and never past the pass
+     * start (cards changed meanwhile may sit on pages already read) nor past a matched card that was not emitted.
+     */
+    private static Map<String, SourcePass> advanceWatermarks(List<SourceResult> results, List<ParsedCard> chunk,
+        Collection<ParsedCard> candidates, Map<String, List<String>> cardSources, Map<String, Watermark> watermarks,
+        Cursor cursor, Instant evaluationStart) {
+        Set<String> emittedIds = new HashSet<>();
+        chunk.forEach(card -> emittedIds.add(card.data().getCardId()));
+
+        Map<String, Watermark> emittedMax = new HashMap<>();
+        Map<String, Watermark> leftoverMin = new HashMap<>();
+        for (ParsedCard card : candidates) {
+            boolean emitted = emittedIds.contains(card.data().getCardId());
+            for (String source : cardSources.get(card.data().getCardId())) {
+                if (emitted) {
+                    emittedMax.merge(source, card.watermark(), Watermark::max);
+                } else {
+                    leftoverMin.merge(source, card.watermark(), Watermark::min);
+                }
+            }
+        }
+
+        Map<String, SourcePass> passes = new HashMap<>();
+        for (SourceResult result : results) {
+            String source = result.source();
+            SourcePass pass = cursor.passes().get(source);
+
+            if (pass == null && (result.complete() || result.resumeBefore() == null)) {
+                // Single-shot read: chunks are taken in watermark order, so every card up to the new mark was emitted
+                Watermark max = emittedMax.get(source);
+                if (max != null) {
+                    watermarks.merge(source, max, Watermark::max);
+                }
+                continue;
+            }
 
-        JsonNode cardsArray = JacksonMapper.ofJson().readTree(response.getBody());
+            Watermark max = Watermark.max(pass != null ? Watermark.parseNullable(pass.max()) : null, emittedMax.get(source));
+            Watermark floor = Watermark.min(pass != null ? Watermark.parseNullable(pass.floor()) : null, leftoverMin.get(source));
+            Instant started = pass != null ? pass.started() : evaluationStart;
 
-        if (cardsArray.isArray()) {
-            for (JsonNode cardNode : cardsArray) {
-                CardData cardData = parseCardData(cardNode, lastCheckTime);
-                if (cardData != null) {
-                    results.add(cardData);
+            if (!result.complete()) {
+                passes.put(source, new SourcePass(
+                    result.resumeBefore(),
+                    started,
+                    max != null ? max.format() : null,
+                    floor != null ? floor.format() : null
+                ));
+                continue;
+            }
+
+            if (max != null) {
+                Watermark mark = Watermark.min(max, new Watermark(started.minus(CLOCK_SKEW), ""));
+                if (floor != null) {
+                    mark = Watermark.min(mark, floor.previous());
                 }
+                watermarks.merge(source, mark, Watermark::max);
             }
         }
 
-        return results;
+        return passes;
     }
 
-    private CardData parseCardData(JsonNode cardNode, Instant lastCheckTime) {
+    private static Cursor readCursor(StateStore stateStore) throws Exception {
+        Optional<String> stored = stateStore.get(CURSOR_STATE);
+        if (stored.isEmpty()) {
+            return new Cursor(0, Map.of());
+        }
+        return JacksonMapper.ofJson().readValue(stored.get(), Cursor.class);
+    }
+
+    private ParsedCard parseCardData(JsonNode cardNode, String source, CardFilter filter, Watermark since) {
         if (!cardNode.has("dateLastActivity")) {
             return null;
         }
 
         String dateLastActivityStr = cardNode.get("dateLastActivity").asText();
         Instant lastActivity = Instant.parse(dateLastActivityStr);
+        Instant lastCheckTime = since.activity();
+
+        String cardId = cardNode.has("id") ? cardNode.get("id").asText() : null;
+        Watermark watermark = new Watermark(lastActivity, cardId != null ? cardId : "");
 
-        // Only include cards that have activity after the last check
-        if (!lastActivity.isAfter(lastCheckTime)) {
+        // Only include cards that have activity after the high-water mark of their source
+        if (watermark.compareTo(since) <= 0) {
+            return null;
+        }
+
+        if (!filter.matches(cardNode)) {
             return null;
         }
 
-        String cardId = cardNode.has("id") ? cardNode.get("id").asText() : null;
         String cardName = cardNode.has("name") ? cardNode.get("name").asText() : null;
         String cardUrl = cardNode.has("shortUrl") ? cardNode.get("shortUrl").asText() : null;
         String cardDesc = cardNode.has("desc") ? cardNode.get("desc").asText() : null;
@@ -301,7 +881,7 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             }
         }
 
-        return CardData.builder()
+        CardData cardData = CardData.builder()
             .cardId(cardId)
             .cardName(cardName)
             .cardUrl(cardUrl)
@@ -311,30 +891,85 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             .boardId(boardId)
             .action(action)
             .build();
+
+        return new ParsedCard(cardData, cardNode, source, watermark);
+    }
+
+    // Raw card node kept alongside the output for matched cards only, so fingerprints can be computed after deduplication
+    private record ParsedCard(CardData data, JsonNode node, String source, Watermark watermark) {
+    }
+
+    // Last emitted (dateLastActivity, card ID) of a source; the card ID breaks ties between cards changed at the same instant
+    private record Watermark(Instant activity, String cardId) implements Comparable<Watermark> {
+        private static final Comparator<Watermark> ORDER = Comparator.comparing(Watermark::activity).thenComparing(Watermark::cardId);
+
+        static Watermark parse(String value) {
+            int separator = value.indexOf('|');
+            return new Watermark(Instant.parse(value.substring(0, separator)), value.substring(separator + 1));
+        }
+
+        static Watermark parseNullable(String value) {
+            return value == null ? null : parse(value);
+        }
+
+        static Watermark max(Watermark a, Watermark b) {
+            if (a == null || b == null) {
+                return a == null ? b : a;
+            }
+            return a.compareTo(b) >= 0 ? a : b;
+        }
+
+        static Watermark min(Watermark a, Watermark b) {
+            if (a == null || b == null) {
+                return a == null ? b : a;
+            }
+            return a.compareTo(b) <= 0 ? a : b;
+        }
+
+        // Trello timestamps have millisecond precision, so no card sorts between this mark and the original one
+        Watermark previous() {
+            return new Watermark(activity.minusNanos(1), "");
+        }
+
+        String format() {
+            return activity + "|" + cardId;
+        }
+
+        @Override
+        public int compareTo(Watermark other) {
+            return ORDER.compare(this, other);
+        }
     }
 
-    private String buildApiUrl(String baseUrl, String version, String endpoint) {
-        return String.format("%s/%s/%s", baseUrl, version, endpoint);
+    private record SourceResult(String source, List<ParsedCard> cards, boolean complete, String resumeBefore) {
     }
 
-    private HttpRequest.HttpRequestBuilder addAuthHeaders(String apiKey, String apiToken,
-        HttpRequest.HttpRequestBuilder builder) {
-        String authHeader = String.format("OAuth oauth_consumer_key=\"%s\", oauth_token=\"%s\"", apiKey, apiToken);
-        return builder.addHeader("Authorization", authHeader);
+    private record Page(int count, String lowestId) {
+    }
+
+    // Paged read of a source spread over several evaluations, resumed from the card ID in `before`
+    private record SourcePass(String before, Instant started, String max, String floor) {
+    }
+
+    private record Cursor(int sourceIndex, Map<String, SourcePass> passes) {
+    }
+
+    private record CachedIds(Set<String> ids, Instant expiresAt) {
     }
 
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
-        @Schema(title = "Detected Card Count", description = "Declared count field. This trigger currently returns card details in `cards`")
+        @Schema(title = "Detected Card Count", description = "Number of cards in `cards`")
         private final Integer count;
 
         @Schema(title = "Detected Cards", description = "Cards matched in this polling window")
         private final List<CardData> cards;
     }
 
-    @Builder
+    @Builder(toBuilder = true)
     @Getter
+    @Jacksonized
     public static class CardData {
         @Schema(title = "Detected Card ID", description = "Trello card ID")
         @PluginProperty(group = "advanced")
@@ -367,5 +1002,27 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
         @Schema(title = "Detected Board ID", description = "Board ID returned by Trello")
         @PluginProperty(group = "advanced")
         private final String boardId;
+
+        @Schema(title = "Changed Fields", description = "Tracked fields (`name`, `desc`, `idList`, `due`, `labels`, `members`, `closed`) that changed since the card was last seen. Only set when `trackChanges` is enabled and the card was seen before")
+        @PluginProperty(group = "advanced")
+        private final List<String> changedFields;
+
+        @Schema(title = "Field Changes", description = "Old and new values of each changed field. Old values are only kept for `idList`, `due`, and `closed`")
+        @PluginProperty(group = "advanced")
+        private final List<FieldChange> changes;
+    }
+
+    @Builder
+    @Getter
+    @Jacksonized
+    public static class FieldChange {
+        @Schema(title = "Field Name", description = "Name of the changed card field")
+        private final String field;
+
+        @Schema(title = "Old Value", description = "Previous value when cheap to keep, otherwise null")
+        private final Object oldValue;
+
+        @Schema(title = "New Value", description = "Current value returned by Trello")
+        private final Object newValue;
     }
 }
@@ -1,19 +1,15 @@
 package io.kestra.plugin.trello.cards;
 
-import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
 
-import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
-import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.VoidOutput;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.client.TrelloClient;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -84,7 +80,6 @@ public class Update extends AbstractTrelloTask {
     @Override
     public VoidOutput run(RunContext runContext) throws Exception {
         String rId = runContext.render(this.cardId).as(String.class).orElseThrow();
-        String url = buildApiUrl(runContext, "cards/" + rId);
 
         Map<String, Object> updateData = new HashMap<>();
 
@@ -94,33 +89,8 @@ public class Update extends AbstractTrelloTask {
         runContext.render(this.pos).as(String.class).ifPresent(val -> updateData.put("pos", val));
         runContext.render(this.due).as(String.class).ifPresent(val -> updateData.put("due", val));
 
-        HttpRequest.HttpRequestBuilder requestBuilder = HttpRequest.builder()
-            .method("PUT")
-            .uri(URI.create(url))
-            .addHeader("Content-Type", "application/json")
-            .addHeader("Accept", "application/json")
-            .body(
-                HttpRequest.StringRequestBody.builder()
-                    .content(JacksonMapper.ofJson().writeValueAsString(updateData))
-                    .build()
-            );
-
-        HttpRequest request = addAuthHeaders(runContext, requestBuilder).build();
-
-        try (
-            HttpClient httpClient = HttpClient.builder()
-                .runContext(runContext)
-                .build()
-        ) {
-            HttpResponse<String> response = httpClient.request(request, String.class);
-
-            if (response.getStatus().getCode() != 200) {
-                throw new RuntimeException(
-                    "Failed to update card: " + response.getStatus().getCode() + " - "
-                        + response.getBody()
-                );
-            }
-
+        try (TrelloClient client = client(runContext)) {
+            client.send("PUT", "cards/" + rId, updateData, Void.class, "update card");
             return null;
         }
     }
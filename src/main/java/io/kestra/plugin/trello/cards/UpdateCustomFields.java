@@ -0,0 +1,212 @@
+package io.kestra.plugin.trello.cards;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Data;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTask;
+import io.kestra.plugin.trello.client.BoundedParallel;
+import io.kestra.plugin.trello.client.TrelloClient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+@Schema(
+    title = "Set custom fields on many Trello cards",
+    description = "Sets custom field values on many cards from a list or an internal storage file. Updates are grouped per card and sent with Trello's multiple custom field items endpoint, one request per card, with bounded parallelism. " +
+        "Fields can be referenced by name or ID; custom field definitions are fetched once per board and cached in the worker"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Set priority and owner on several cards",
+            full = true,
+            code = """
+                id: trello_update_custom_fields
+                namespace: company.team
+
+                tasks:
+                  - id: update_custom_fields
+                    type: io.kestra.plugin.trello.cards.UpdateCustomFields
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardId: "5abbe4b7ddc1b351ef961400"
+                    from:
+                      - cardId: "5abbe4b7ddc1b351ef961414"
+                        field: "Priority"
+                        value: "High"
+                      - cardId: "5abbe4b7ddc1b351ef961414"
+                        field: "Owner"
+                        value: "jane"
+                      - cardId: "5abbe4b7ddc1b351ef961415"
+                        field: "Priority"
+                        value: "Low"
+                """
+        ),
+        @Example(
+            title = "Set SLA dates from a file produced by a previous task",
+            full = true,
+            code = """
+                id: trello_update_custom_fields_from_file
+                namespace: company.team
+
+                tasks:
+                  - id: update_custom_fields
+                    type: io.kestra.plugin.trello.cards.UpdateCustomFields
+                    apiKey: "{{ secret('TRELLO_API_KEY') }}"
+                    apiToken: "{{ secret('TRELLO_API_TOKEN') }}"
+                    boardId: "5abbe4b7ddc1b351ef961400"
+                    from: "{{ outputs.compute_sla.uri }}"
+                    maxConcurrency: 8
+                """
+        )
+    }
+)
+public class UpdateCustomFields extends AbstractTrelloTask implements Data.From {
+    private static final int MAX_CACHED_BOARDS = 100;
+
+    // Custom field definitions of the boards this worker updated most recently; the least recently used ones are
+    // dropped past the cap, so a worker serving many boards does not keep every board it ever touched
+    private static final Map<String, CachedDefinitions> DEFINITIONS_CACHE = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedDefinitions> eldest) {
+            return size() > MAX_CACHED_BOARDS;
+        }
+    });
+
+    @Schema(title = "Board ID", description = "Board whose custom field definitions are used for updates that do not set their own `boardId`")
+    @PluginProperty(group = "main")
+    protected Property<String> boardId;
+
+    @Schema(
+        title = "Updates",
+        description = "Inline list of updates, a single update as a map, or the internal storage URI of an ION file with one update per row. Each update has `cardId`, `field` (custom field name or ID), `value` (`null` clears the field), and optionally `boardId`. " +
+            "Dropdown fields take the option label or ID; a map value is sent as Trello's `value` object",
+        anyOf = {String.class, List.class, Map.class}
+    )
+    @NotNull
+    @PluginProperty(dynamic = true, internalStorageURI = true, group = "main")
+    protected Object from;
+
+    @Schema(title = "Max Concurrency", description = "Most cards updated at once. Defaults to `4`")
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> maxConcurrency = Property.ofValue(4);
+
+    @Schema(title = "Definitions Cache TTL", description = "How long custom field definitions of a board are reused by the worker. Defaults to `PT10M`")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Duration> definitionsCacheTtl = Property.ofValue(Duration.ofMinutes(10));
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String rBoardId = runContext.render(this.boardId).as(String.class).orElse(null);
+        int rMaxConcurrency = runContext.render(this.maxConcurrency).as(Integer.class).orElse(4);
+        Duration rTtl = runContext.render(this.definitionsCacheTtl).as(Duration.class).orElse(Duration.ofMinutes(10));
+
+        List<Map<String, Object>> updates = BulkRows.read(runContext, this.from);
+
+        try (TrelloClient client = client(runContext)) {
+            // Updates are grouped per card so each card costs a single request whatever the number of fields
+            Map<String, List<Map<String, Object>>> itemsByCard = new LinkedHashMap<>();
+            Map<String, CustomFieldDefinitions> definitionsByBoard = new LinkedHashMap<>();
+
+            for (Map<String, Object> update : updates) {
+                String cardId = text(update, "cardId");
+                String field = text(update, "field");
+                String board = update.get("boardId") != null ? text(update, "boardId") : rBoardId;
+
+                if (cardId == null || field == null) {
+                    throw new IllegalArgumentException("Each update needs a `cardId` and a `field`, got " + update);
+                }
+                if (board == null) {
+                    throw new IllegalArgumentException("Update of card " + cardId + " has no `boardId` and the task sets none");
+                }
+
+                CustomFieldDefinitions definitions = definitionsByBoard.get(board);
+                if (definitions == null) {
+                    definitions = getDefinitions(client, board, rTtl);
+                    definitionsByBoard.put(board, definitions);
+                }
+
+                itemsByCard.computeIfAbsent(cardId, id -> new ArrayList<>())
+                    .add(CustomFieldDefinitions.item(definitions.resolve(field, board), update.get("value")));
+            }
+
+            List<Callable<Integer>> calls = new ArrayList<>();
+            for (Map.Entry<String, List<Map<String, Object>>> card : itemsByCard.entrySet()) {
+                calls.add(() -> updateCard(client, card.getKey(), card.getValue()));
+            }
+
+            int fieldsUpdated = BoundedParallel.invokeAll(calls, rMaxConcurrency).stream().mapToInt(Integer::intValue).sum();
+
+            runContext.metric(Counter.of("cards.updated", itemsByCard.size()));
+            runContext.metric(Counter.of("fields.updated", fieldsUpdated));
+            runContext.logger().info("Updated {} custom field values on {} cards", fieldsUpdated, itemsByCard.size());
+
+            return Output.builder()
+                .cardsUpdated(itemsByCard.size())
+                .fieldsUpdated(fieldsUpdated)
+                .build();
+        }
+    }
+
+    private static String text(Map<String, Object> update, String key) {
+        Object value = update.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private static CustomFieldDefinitions getDefinitions(TrelloClient client, String boardId, Duration ttl) throws Exception {
+        String endpoint = "boards/" + boardId + "/customFields";
+        String cacheKey = client.cacheKey(endpoint);
+
+        CachedDefinitions cached = DEFINITIONS_CACHE.get(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached.definitions();
+        }
+
+        CustomFieldDefinitions definitions = CustomFieldDefinitions.parse(client.get(endpoint, JsonNode.class, "custom fields of board " + boardId));
+        DEFINITIONS_CACHE.put(cacheKey, new CachedDefinitions(definitions, Instant.now().plus(ttl)));
+
+        return definitions;
+    }
+
+    private static int updateCard(TrelloClient client, String cardId, List<Map<String, Object>> items) throws Exception {
+        client.send("PUT", "cards/" + cardId + "/customFields", Map.of("customFieldItems", items), Void.class, "update custom fields of card " + cardId);
+        return items.size();
+    }
+
+    private record CachedDefinitions(CustomFieldDefinitions definitions, Instant expiresAt) {
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Cards Updated", description = "Number of cards that received at least one custom field value")
+        private final Integer cardsUpdated;
+
+        @Schema(title = "Fields Updated", description = "Number of custom field values set or cleared")
+        private final Integer fieldsUpdated;
+    }
+}
@@ -0,0 +1,50 @@
+package io.kestra.plugin.trello.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.opentelemetry.context.Context;
+
+/**
+ * Runs independent Trello calls with at most {@code maxConcurrency} in flight and returns their results in call
+ * order. The first failure is rethrown as-is once every call has finished.
+ */
+public final class BoundedParallel {
+    private BoundedParallel() {
+    }
+
+    public static <T> List<T> invokeAll(List<Callable<T>> calls, int maxConcurrency) throws Exception {
+        List<T> results = new ArrayList<>();
+
+        if (calls.size() <= 1 || maxConcurrency <= 1) {
+            for (Callable<T> call : calls) {
+                results.add(call.call());
+            }
+            return results;
+        }
+
+        // Pool threads carry the caller's trace context so request spans stay parented to it
+        Context traceContext = Context.current();
+        List<Callable<T>> tracedCalls = calls.stream().map(call -> traceContext.wrap(call)).toList();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrency, calls.size()))) {
+            for (Future<T> future : executor.invokeAll(tracedCalls)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        return results;
+    }
+}
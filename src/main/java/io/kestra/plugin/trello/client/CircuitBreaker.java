@@ -0,0 +1,164 @@
+package io.kestra.plugin.trello.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClientException;
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+
+/**
+ * Circuit breaker shared by every task and trigger of the worker that targets the same Trello base URL.
+ * Opens after {@code failureThreshold} consecutive 5xx responses or transport errors, fails fast for
+ * {@code openDuration}, then lets {@code halfOpenProbes} requests through to decide whether to close again.
+ */
+public final class CircuitBreaker {
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    public record Settings(boolean enabled, int failureThreshold, Duration openDuration, int halfOpenProbes) {
+    }
+
+    private final String baseUrl;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private CircuitBreaker(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static CircuitBreaker of(String baseUrl) {
+        return BREAKERS.computeIfAbsent(baseUrl, CircuitBreaker::new);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public <T> HttpResponse<T> execute(RunContext runContext, Settings settings, Callable<HttpResponse<T>> call) throws Exception {
+        if (!settings.enabled()) {
+            return call.call();
+        }
+
+        if (!tryAcquire(settings)) {
+            runContext.metric(Counter.of("circuit.rejected", 1, "baseUrl", baseUrl));
+            throw new CircuitBreakerOpenException(baseUrl);
+        }
+
+        HttpResponse<T> response;
+        try {
+            response = call.call();
+        } catch (Exception e) {
+            if (e instanceof HttpClientResponseException responseException) {
+                // 4xx means Trello answered, only server errors count against the circuit
+                HttpResponse<?> failed = responseException.getResponse();
+                record(runContext, settings, failed != null && failed.getStatus().getCode() < 500);
+            } else if (e instanceof HttpClientException || e instanceof IOException) {
+                record(runContext, settings, false);
+            } else {
+                release();
+            }
+            throw e;
+        }
+
+        record(runContext, settings, response.getStatus().getCode() < 500);
+        return response;
+    }
+
+    private synchronized boolean tryAcquire(Settings settings) {
+        if (state == State.OPEN && Instant.now().isAfter(openedAt.plus(settings.openDuration()))) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probesInFlight >= settings.halfOpenProbes()) {
+                    yield false;
+                }
+                probesInFlight++;
+                yield true;
+            }
+        };
+    }
+
+    private synchronized void release() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private void record(RunContext runContext, Settings settings, boolean success) {
+        State previous;
+        State current;
+
+        synchronized (this) {
+            previous = state;
+            if (success) {
+                onSuccess(settings);
+            } else {
+                onFailure(settings);
+            }
+            current = state;
+        }
+
+        if (previous != current) {
+            runContext.logger().warn("Trello circuit breaker for '{}' moved from {} to {}", baseUrl, previous, current);
+            runContext.metric(Counter.of("circuit.transitions", 1, "baseUrl", baseUrl, "state", current.name()));
+        }
+    }
+
+    private void onSuccess(Settings settings) {
+        switch (state) {
+            case CLOSED -> consecutiveFailures = 0;
+            case HALF_OPEN -> {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                if (++probeSuccesses >= settings.halfOpenProbes()) {
+                    state = State.CLOSED;
+                    consecutiveFailures = 0;
+                }
+            }
+            case OPEN -> {
+                // a request that started before the circuit opened, nothing to update
+            }
+        }
+    }
+
+    private void onFailure(Settings settings) {
+        switch (state) {
+            case CLOSED -> {
+                if (++consecutiveFailures >= settings.failureThreshold()) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> open();
+            case OPEN -> {
+                // already failing fast
+            }
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = Instant.now();
+        probesInFlight = 0;
+        probeSuccesses = 0;
+    }
+}
@@ -0,0 +1,7 @@
+package io.kestra.plugin.trello.client;
+
+public class CircuitBreakerOpenException extends RuntimeException {
+    public CircuitBreakerOpenException(String baseUrl) {
+        super("Trello circuit breaker is open for '" + baseUrl + "', failing fast until the next probe window");
+    }
+}
@@ -0,0 +1,152 @@
+package io.kestra.plugin.trello.client;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClientResponseException;
+
+/**
+ * HTTP/2 transport shared by every task and trigger of the worker. The JDK client keeps one connection per origin and
+ * multiplexes concurrent requests on it as streams, instead of opening a socket per parallel request. The protocol is
+ * negotiated per origin (ALPN over TLS, an upgrade over cleartext), so servers and proxies that only speak HTTP/1.1
+ * are answered over HTTP/1.1; such origins are remembered for a while and sent HTTP/1.1 directly meanwhile.
+ * <p>
+ * Being shared across runs, the client does not take any run's Kestra HTTP settings: it uses the JVM default proxy
+ * selector and trust store and the fixed timeouts below, as the {@code http2} property documents.
+ */
+public final class Http2Transport {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+
+    // Managed by the JDK client itself, which rejects them when set on a request
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .connectTimeout(CONNECT_TIMEOUT)
+        .proxy(ProxySelector.getDefault())
+        .build();
+
+    // Origins are negotiated again after this, so a downgrade never outlives a proxy change or a misread failure
+    private static final Duration HTTP1_TTL = Duration.ofMinutes(30);
+
+    private static final Map<String, Instant> HTTP1_ORIGINS = new ConcurrentHashMap<>();
+
+    private Http2Transport() {
+    }
+
+    /**
+     * Sends the request and reads the body as a string. Like the Kestra client, a 4xx or 5xx status is thrown as a
+     * {@link HttpClientResponseException} carrying the response.
+     */
+    public static HttpResponse<String> request(HttpRequest request) throws IOException, InterruptedException {
+        String origin = origin(request.getUri());
+        boolean http1 = isHttp1Only(request.getUri());
+
+        java.net.http.HttpResponse<String> response;
+        try {
+            response = send(request, http1 ? HttpClient.Version.HTTP_1_1 : HttpClient.Version.HTTP_2);
+        } catch (HttpTimeoutException e) {
+            throw e;
+        } catch (IOException e) {
+            // Some proxies reset the connection on a cleartext upgrade instead of ignoring it; reads are retried once over HTTP/1.1
+            if (http1 || !isUpgradeFailure(request, e)) {
+                throw e;
+            }
+            response = send(request, HttpClient.Version.HTTP_1_1);
+            // Only an answer without the upgrade shows the upgrade was what failed, rather than a passing network error
+            markHttp1(origin);
+        }
+
+        // Requests with a body never attempt the cleartext upgrade, so only TLS or body-less answers tell what the origin speaks
+        if (!http1 && response.version() == HttpClient.Version.HTTP_1_1
+            && ("https".equalsIgnoreCase(request.getUri().getScheme()) || request.getBody() == null)) {
+            markHttp1(origin);
+        }
+
+        HttpResponse<String> converted = HttpResponse.<String>builder()
+            .request(request)
+            .status(HttpResponse.Status.builder().code(response.statusCode()).build())
+            .headers(response.headers())
+            .body(response.body())
+            .build();
+
+        if (response.statusCode() >= 400) {
+            throw new HttpClientResponseException("Failed http request with response code '" + response.statusCode() + "'", converted);
+        }
+
+        return converted;
+    }
+
+    /** Whether requests to the origin of {@code uri} are sent over HTTP/1.1 after an earlier negotiation. */
+    public static boolean isHttp1Only(URI uri) {
+        String origin = origin(uri);
+        Instant expiry = HTTP1_ORIGINS.get(origin);
+        if (expiry == null) {
+            return false;
+        }
+        if (Instant.now().isAfter(expiry)) {
+            HTTP1_ORIGINS.remove(origin, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    private static void markHttp1(String origin) {
+        HTTP1_ORIGINS.put(origin, Instant.now().plus(HTTP1_TTL));
+    }
+
+    /**
+     * Whether {@code e} may come from a cleartext upgrade the peer refused: a read over {@code http} whose connection
+     * was opened, then dropped before any response. TLS origins negotiate with ALPN and never attempt the upgrade, and
+     * unreachable hosts fail the same way over either protocol.
+     */
+    private static boolean isUpgradeFailure(HttpRequest request, IOException e) {
+        return "GET".equals(request.getMethod())
+            && "http".equalsIgnoreCase(request.getUri().getScheme())
+            && !(e instanceof ConnectException)
+            && !(e instanceof UnknownHostException);
+    }
+
+    private static java.net.http.HttpResponse<String> send(HttpRequest request, HttpClient.Version version) throws IOException, InterruptedException {
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(request.getUri())
+            .version(version)
+            .timeout(REQUEST_TIMEOUT)
+            .method(request.getMethod(), bodyPublisher(request));
+
+        request.getHeaders().map().forEach((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        return CLIENT.send(builder.build(), java.net.http.HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static java.net.http.HttpRequest.BodyPublisher bodyPublisher(HttpRequest request) {
+        if (request.getBody() == null) {
+            return java.net.http.HttpRequest.BodyPublishers.noBody();
+        }
+        if (request.getBody() instanceof HttpRequest.StringRequestBody body) {
+            return java.net.http.HttpRequest.BodyPublishers.ofString(body.getContent());
+        }
+        throw new IllegalArgumentException("Unsupported request body for the HTTP/2 transport: " + request.getBody().getClass().getSimpleName());
+    }
+
+    private static String origin(URI uri) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+}
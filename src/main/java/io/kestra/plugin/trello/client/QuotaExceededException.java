@@ -0,0 +1,9 @@
+package io.kestra.plugin.trello.client;
+
+import java.time.Duration;
+
+public class QuotaExceededException extends RuntimeException {
+    public QuotaExceededException(String namespace, int budget, Duration window) {
+        super("Trello request budget of namespace '" + namespace + "' exhausted (" + budget + " requests per " + window + " on this token)");
+    }
+}
@@ -0,0 +1,123 @@
+package io.kestra.plugin.trello.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+/**
+ * Sliding-window accounting of the Trello requests sent with one API key and token from the worker JVM.
+ * Every request is counted per namespace and flow; when a namespace share is set, a namespace that already used
+ * its share of the window is queued until one of its requests leaves the window, or rejected.
+ */
+public final class QuotaTracker {
+    private static final Map<String, QuotaTracker> TRACKERS = new ConcurrentHashMap<>();
+
+    public record Settings(int requestLimit, Duration window, Double namespaceShare, boolean reject, Duration maxWait) {
+    }
+
+    private record Grant(long atNanos, String namespace) {
+    }
+
+    private final String credential;
+    private final Deque<Grant> grants = new ArrayDeque<>();
+
+    private QuotaTracker(String credential) {
+        this.credential = credential;
+    }
+
+    public static QuotaTracker of(String apiKey, String apiToken) throws Exception {
+        return TRACKERS.computeIfAbsent(credentialHash(apiKey, apiToken), QuotaTracker::new);
+    }
+
+    public static String credentialHash(String apiKey, String apiToken) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest((apiKey + ":" + apiToken).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public void acquire(RunContext runContext, Settings settings) throws InterruptedException {
+        RunContext.FlowInfo flowInfo = runContext.flowInfo();
+        String namespace = flowInfo != null && flowInfo.namespace() != null ? flowInfo.namespace() : "";
+        String flowId = flowInfo != null && flowInfo.id() != null ? flowInfo.id() : "";
+        // Only a prefix of the hash goes into metric tags, enough to tell tokens apart
+        String[] tags = {"credential", credential.substring(0, 12), "namespace", namespace, "flowId", flowId};
+
+        long start = System.nanoTime();
+        boolean queued = false;
+
+        while (true) {
+            long waitNanos = tryGrant(namespace, settings);
+            if (waitNanos == 0) {
+                break;
+            }
+
+            if (settings.reject() || System.nanoTime() + waitNanos - start > settings.maxWait().toNanos()) {
+                runContext.metric(Counter.of("quota.rejected", 1, tags));
+                throw new QuotaExceededException(namespace, budget(settings), settings.window());
+            }
+
+            if (!queued) {
+                runContext.metric(Counter.of("quota.queued", 1, tags));
+                runContext.logger().debug("Trello request budget of namespace '{}' used up, waiting for the window to move", namespace);
+                queued = true;
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+
+        if (queued) {
+            runContext.metric(Timer.of("quota.wait", Duration.ofNanos(System.nanoTime() - start), tags));
+        }
+        runContext.metric(Counter.of("quota.requests", 1, tags));
+    }
+
+    public synchronized int used(String namespace, Duration window) {
+        purge(System.nanoTime(), window.toNanos());
+        return (int) grants.stream().filter(grant -> grant.namespace().equals(namespace)).count();
+    }
+
+    // Records the request and returns 0, or returns how long to wait before the namespace has room again
+    private synchronized long tryGrant(String namespace, Settings settings) {
+        long now = System.nanoTime();
+        long windowNanos = settings.window().toNanos();
+        purge(now, windowNanos);
+
+        if (settings.namespaceShare() != null) {
+            int used = 0;
+            long oldest = 0;
+            for (Grant grant : grants) {
+                if (grant.namespace().equals(namespace)) {
+                    if (used == 0) {
+                        oldest = grant.atNanos();
+                    }
+                    used++;
+                }
+            }
+
+            if (used >= budget(settings)) {
+                return Math.max(1, oldest + windowNanos - now);
+            }
+        }
+
+        grants.addLast(new Grant(now, namespace));
+        return 0;
+    }
+
+    private void purge(long now, long windowNanos) {
+        while (!grants.isEmpty() && now - grants.peekFirst().atNanos() >= windowNanos) {
+            grants.pollFirst();
+        }
+    }
+
+    private static int budget(Settings settings) {
+        return Math.max(1, (int) Math.floor(settings.requestLimit() * settings.namespaceShare()));
+    }
+}
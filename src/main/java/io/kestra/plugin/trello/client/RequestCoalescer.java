@@ -0,0 +1,93 @@
+package io.kestra.plugin.trello.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Single-flight coalescing of idempotent Trello reads within the worker JVM. Concurrent callers asking for the
+ * same key share one in-flight load and its result; a non-zero cache window keeps the result for late callers.
+ * Shared results must be immutable.
+ */
+public final class RequestCoalescer {
+    private static final int PURGE_THRESHOLD = 1024;
+
+    private static final Map<String, Flight> FLIGHTS = new ConcurrentHashMap<>();
+
+    private RequestCoalescer() {
+    }
+
+    public static String key(String method, String url, String apiKey, String apiToken) throws Exception {
+        return key(method, url, QuotaTracker.credentialHash(apiKey, apiToken));
+    }
+
+    public static String key(String method, String url, String credentialHash) {
+        return method + " " + url + " " + credentialHash;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String key, Duration cacheWindow, Callable<T> loader) throws Exception {
+        while (true) {
+            Flight existing = FLIGHTS.get(key);
+            if (existing != null && !existing.isExpired()) {
+                return (T) existing.await();
+            }
+
+            Flight flight = new Flight();
+            boolean owner = existing == null
+                ? FLIGHTS.putIfAbsent(key, flight) == null
+                : FLIGHTS.replace(key, existing, flight);
+
+            if (!owner) {
+                continue;
+            }
+
+            try {
+                T value = loader.call();
+                flight.complete(value, cacheWindow);
+                if (cacheWindow == null || cacheWindow.isZero() || cacheWindow.isNegative()) {
+                    FLIGHTS.remove(key, flight);
+                } else if (FLIGHTS.size() > PURGE_THRESHOLD) {
+                    FLIGHTS.values().removeIf(Flight::isExpired);
+                }
+                return value;
+            } catch (Exception e) {
+                FLIGHTS.remove(key, flight);
+                flight.result.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile boolean cached;
+        private volatile long expiresAtNanos;
+
+        void complete(Object value, Duration cacheWindow) {
+            if (cacheWindow != null && cacheWindow.isPositive()) {
+                this.expiresAtNanos = System.nanoTime() + cacheWindow.toNanos();
+                this.cached = true;
+            }
+            result.complete(value);
+        }
+
+        boolean isExpired() {
+            return result.isDone() && (!cached || System.nanoTime() - expiresAtNanos > 0);
+        }
+
+        Object await() throws Exception {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.kestra.plugin.trello.client;
+
+import java.time.Instant;
+
+/**
+ * A Trello action as returned by the {@code actions} endpoints. Only the parts of {@code data} used by the plugin are
+ * bound; the rest of the payload is ignored.
+ */
+public record TrelloAction(String id, String type, Instant date, String idMemberCreator, Data data) {
+
+    public record Data(TrelloRef board, TrelloRef card, TrelloRef list, TrelloRef listBefore, TrelloRef listAfter,
+        TrelloRef checklist, TrelloRef checkItem, TrelloRef member, String text) {
+    }
+
+    public String cardId() {
+        return data != null && data.card() != null ? data.card().id() : null;
+    }
+}
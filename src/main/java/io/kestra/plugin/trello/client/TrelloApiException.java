@@ -0,0 +1,19 @@
+package io.kestra.plugin.trello.client;
+
+import lombok.Getter;
+
+/**
+ * A Trello request that got an error status back. The message keeps the {@code Failed to <action>: <status> - <body>}
+ * form; transport errors, open circuits, and rejected quotas keep their own exception types.
+ */
+@Getter
+public class TrelloApiException extends RuntimeException {
+    private final int statusCode;
+    private final String body;
+
+    public TrelloApiException(String action, int statusCode, String body, Throwable cause) {
+        super("Failed to " + action + ": " + statusCode + " - " + body, cause);
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+}
@@ -0,0 +1,296 @@
+package io.kestra.plugin.trello.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Trello REST client shared by every task and trigger. It is opened once per run with the rendered connection
+ * settings, so the API URL prefix, the authorization header, and the credential hash used for quota and coalescing are
+ * computed once rather than per request. Responses are bound straight to the requested type with cached
+ * {@link ObjectReader}s, and every error status surfaces as a {@link TrelloApiException}. Requests Trello turns down with
+ * {@code 429 Too Many Requests} are sent again once its {@code Retry-After} delay has passed.
+ */
+public final class TrelloClient implements AutoCloseable {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final ObjectWriter WRITER = MAPPER.writer();
+
+    // Readers are immutable and thread-safe, so one per bound type serves the whole worker
+    private static final Map<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private static final int MAX_RATE_LIMIT_RETRIES = 5;
+
+    // A longer Retry-After means the token is throttled for good; failing beats holding the worker thread
+    private static final Duration MAX_RATE_LIMIT_WAIT = Duration.ofMinutes(1);
+
+    public record Connection(String baseUrl, String apiVersion, String apiKey, String apiToken,
+        CircuitBreaker.Settings circuitBreaker, QuotaTracker.Settings quota, Duration readCacheWindow, boolean http2) {
+    }
+
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        void accept(T element) throws Exception;
+    }
+
+    private final RunContext runContext;
+    private final HttpClient httpClient;
+    private final String apiUrl;
+    private final String authorization;
+    private final String credentialHash;
+    private final CircuitBreaker circuitBreaker;
+    private final CircuitBreaker.Settings circuitBreakerSettings;
+    private final QuotaTracker quotaTracker;
+    private final QuotaTracker.Settings quotaSettings;
+    private final Duration readCacheWindow;
+    private final boolean http2;
+
+    private TrelloClient(RunContext runContext, Connection connection) throws Exception {
+        this.runContext = runContext;
+        this.apiUrl = connection.baseUrl() + "/" + connection.apiVersion() + "/";
+        this.authorization = "OAuth oauth_consumer_key=\"" + connection.apiKey() + "\", oauth_token=\"" + connection.apiToken() + "\"";
+        this.credentialHash = QuotaTracker.credentialHash(connection.apiKey(), connection.apiToken());
+        this.circuitBreaker = CircuitBreaker.of(connection.baseUrl());
+        this.circuitBreakerSettings = connection.circuitBreaker();
+        this.quotaTracker = QuotaTracker.of(connection.apiKey(), connection.apiToken());
+        this.quotaSettings = connection.quota();
+        this.readCacheWindow = connection.readCacheWindow() != null ? connection.readCacheWindow() : Duration.ZERO;
+        this.http2 = connection.http2();
+        this.httpClient = HttpClient.builder()
+            .runContext(runContext)
+            .build();
+    }
+
+    public static TrelloClient open(RunContext runContext, Connection connection) throws Exception {
+        return new TrelloClient(runContext, connection);
+    }
+
+    public String url(String endpoint) {
+        return apiUrl + endpoint;
+    }
+
+    /** Key identifying a GET of {@code endpoint} with this client's credentials, for caches kept by callers. */
+    public String cacheKey(String endpoint) {
+        return RequestCoalescer.key("GET", url(endpoint), credentialHash);
+    }
+
+    /** Reads {@code endpoint} and binds the response to {@code type}; {@code what} names the resource in errors. */
+    public <T> T get(String endpoint, Class<T> type, String what) throws Exception {
+        return read(exchange("GET", endpoint, null, "fetch " + what), MAPPER.constructType(type));
+    }
+
+    public <T> List<T> getList(String endpoint, Class<T> type, String what) throws Exception {
+        List<T> elements = new ArrayList<>();
+        stream(endpoint, type, what, elements::add);
+        return elements;
+    }
+
+    /**
+     * Reads a JSON array and hands each element to {@code consumer} as it is bound, so neither a JSON tree nor a list
+     * of every element is built. The response body itself is still held as one string, as coalesced reads share it.
+     * Returns the number of elements read.
+     */
+    public <T> int stream(String endpoint, Class<T> type, String what, ElementConsumer<T> consumer) throws Exception {
+        String body = exchange("GET", endpoint, null, "fetch " + what);
+
+        int count = 0;
+        try (MappingIterator<T> elements = reader(MAPPER.constructType(type)).readValues(body)) {
+            while (elements.hasNextValue()) {
+                consumer.accept(elements.nextValue());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads every page of {@code endpoint}, a collection Trello returns newest first and pages back with {@code limit}
+     * and {@code before}, handing each element to {@code consumer} as it is bound. Elements at or below {@code floor}
+     * (an ID, or {@code null} for none) are dropped and end the read, in case the server ignored {@code since}.
+     * Elements not older than the cursor are dropped and a page that does not move it ends the read, in case the
+     * server ignored {@code before}.
+     */
+    public <T> void streamPages(String endpoint, int pageSize, Class<T> type, Function<T, String> idOf, String floor,
+        String what, ElementConsumer<T> consumer) throws Exception {
+        String before = null;
+
+        while (true) {
+            String cursor = before;
+            String[] lowest = {null};
+            boolean[] reachedFloor = {false};
+
+            String page = endpoint + (endpoint.contains("?") ? "&" : "?") + "limit=" + pageSize + (cursor != null ? "&before=" + cursor : "");
+            int count = stream(page, type, what, element -> {
+                String id = idOf.apply(element);
+                if (id == null) {
+                    consumer.accept(element);
+                    return;
+                }
+
+                if (lowest[0] == null || id.compareTo(lowest[0]) < 0) {
+                    lowest[0] = id;
+                }
+                if (cursor != null && id.compareTo(cursor) >= 0) {
+                    return;
+                }
+                if (floor != null && id.compareTo(floor) <= 0) {
+                    reachedFloor[0] = true;
+                    return;
+                }
+                consumer.accept(element);
+            });
+
+            if (count < pageSize || reachedFloor[0] || lowest[0] == null || (cursor != null && lowest[0].compareTo(cursor) >= 0)) {
+                return;
+            }
+            before = lowest[0];
+        }
+    }
+
+    /**
+     * Sends {@code body} as JSON (none when {@code null}) and binds the response to {@code type}; with {@code Void}, the
+     * response is not parsed at all.
+     */
+    public <T> T send(String method, String endpoint, Object body, Class<T> type, String action) throws Exception {
+        String response = exchange(method, endpoint, body, action);
+        return type == Void.class ? null : read(response, MAPPER.constructType(type));
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private String exchange(String method, String endpoint, Object body, String action) throws Exception {
+        HttpRequest.HttpRequestBuilder builder = HttpRequest.builder()
+            .method(method)
+            .uri(URI.create(url(endpoint)))
+            .addHeader("Accept", "application/json")
+            .addHeader("Authorization", authorization);
+
+        if (body != null) {
+            builder.addHeader("Content-Type", "application/json")
+                .body(HttpRequest.StringRequestBody.builder()
+                    .content(WRITER.writeValueAsString(body))
+                    .build());
+        }
+
+        HttpResponse<String> response;
+        try {
+            response = execute(builder.build());
+        } catch (HttpClientResponseException e) {
+            HttpResponse<?> failed = e.getResponse();
+            if (failed == null) {
+                throw e;
+            }
+            throw new TrelloApiException(action, failed.getStatus().getCode(), String.valueOf(failed.getBody()), e);
+        }
+
+        int status = response.getStatus().getCode();
+        if (status < 200 || status >= 300) {
+            throw new TrelloApiException(action, status, response.getBody(), null);
+        }
+
+        return response.getBody();
+    }
+
+    private HttpResponse<String> execute(HttpRequest request) throws Exception {
+        // Quota is taken inside the coalesced call so reads served from a shared response are not counted
+        Callable<HttpResponse<String>> call = () -> {
+            for (int attempt = 0; ; attempt++) {
+                quotaTracker.acquire(runContext, quotaSettings);
+                try {
+                    return circuitBreaker.execute(runContext, circuitBreakerSettings, () -> TrelloTracing.trace(request,
+                        () -> http2 ? Http2Transport.request(request) : httpClient.request(request, String.class)));
+                } catch (HttpClientResponseException e) {
+                    Optional<Duration> wait = rateLimitWait(e.getResponse(), attempt);
+                    if (wait.isEmpty()) {
+                        throw e;
+                    }
+
+                    runContext.metric(Counter.of("quota.throttled", 1));
+                    runContext.logger().warn("Trello rate limit reached on {} {}, retrying in {}", request.getMethod(),
+                        TrelloTracing.endpointTemplate(request.getUri().getPath()), wait.get());
+                    Thread.sleep(wait.get().toMillis());
+                }
+            }
+        };
+
+        if (!"GET".equals(request.getMethod())) {
+            return call.call();
+        }
+
+        return RequestCoalescer.get(RequestCoalescer.key("GET", request.getUri().toString(), credentialHash), readCacheWindow, call);
+    }
+
+    /**
+     * How long to wait before sending again a request answered with {@code response}: empty unless Trello rate limited
+     * it, and once the retries are used up or the delay asked for is too long. Without a {@code Retry-After} header,
+     * the delay doubles from one second.
+     */
+    static Optional<Duration> rateLimitWait(HttpResponse<?> response, int attempt) {
+        if (response == null || response.getStatus().getCode() != 429 || attempt >= MAX_RATE_LIMIT_RETRIES) {
+            return Optional.empty();
+        }
+
+        Duration wait = retryAfter(response.getHeaders()).orElse(Duration.ofSeconds(1L << attempt));
+        return wait.compareTo(MAX_RATE_LIMIT_WAIT) > 0 ? Optional.empty() : Optional.of(wait);
+    }
+
+    // Retry-After is either a number of seconds or an HTTP date
+    private static Optional<Duration> retryAfter(HttpHeaders headers) {
+        Optional<String> value = headers != null ? headers.firstValue("Retry-After").map(String::trim) : Optional.empty();
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.get()))));
+        } catch (NumberFormatException e) {
+            try {
+                Instant at = ZonedDateTime.parse(value.get(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                Duration wait = Duration.between(Instant.now(), at);
+                return Optional.of(wait.isNegative() ? Duration.ZERO : wait);
+            } catch (DateTimeParseException ignored) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static <T> T read(String body, JavaType type) throws IOException {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        return reader(type).readValue(body);
+    }
+
+    private static ObjectReader reader(JavaType type) {
+        return READERS.computeIfAbsent(type, key -> MAPPER.readerFor(key).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+}
@@ -0,0 +1,8 @@
+package io.kestra.plugin.trello.client;
+
+/**
+ * ID and name of a Trello object, enough for created objects and for lists, boards, and labels read with
+ * {@code fields=id,name}.
+ */
+public record TrelloRef(String id, String name) {
+}
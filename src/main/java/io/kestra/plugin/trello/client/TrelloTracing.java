@@ -0,0 +1,124 @@
+package io.kestra.plugin.trello.client;
+
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClientResponseException;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Wraps each Trello HTTP call in a client span, parented to the span current on the calling thread (the task run
+ * or trigger evaluation span opened by Kestra). Span names and attributes use the endpoint template rather than the
+ * raw URL, so calls on different cards aggregate together. Without a configured OpenTelemetry SDK this is a no-op.
+ */
+public final class TrelloTracing {
+    private static final String INSTRUMENTATION_SCOPE = "io.kestra.plugin.trello";
+
+    private static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.request.method");
+    private static final AttributeKey<String> URL_TEMPLATE = AttributeKey.stringKey("url.template");
+    private static final AttributeKey<String> SERVER_ADDRESS = AttributeKey.stringKey("server.address");
+    private static final AttributeKey<Long> HTTP_STATUS = AttributeKey.longKey("http.response.status_code");
+    private static final AttributeKey<Long> HTTP_BODY_SIZE = AttributeKey.longKey("http.response.body.size");
+
+    // Path segments that carry an identifier (Trello IDs, short links) always contain a digit, resource names never do
+    private static final Pattern IDENTIFIER = Pattern.compile(".*\\d.*");
+
+    private TrelloTracing() {
+    }
+
+    public static <T> HttpResponse<T> trace(HttpRequest request, Callable<HttpResponse<T>> call) throws Exception {
+        String method = request.getMethod();
+        String template = endpointTemplate(request.getUri().getPath());
+
+        Tracer tracer = GlobalOpenTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+        Span span = tracer.spanBuilder(method + " " + template)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(HTTP_METHOD, method)
+            .setAttribute(URL_TEMPLATE, template)
+            .setAttribute(SERVER_ADDRESS, request.getUri().getHost())
+            .startSpan();
+
+        try (Scope ignored = span.makeCurrent()) {
+            HttpResponse<T> response = call.call();
+            if (response != null) {
+                recordResponse(span, response);
+            }
+            return response;
+        } catch (Exception e) {
+            if (e instanceof HttpClientResponseException responseException && responseException.getResponse() != null) {
+                recordResponse(span, responseException.getResponse());
+            }
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Turns {@code /1/cards/5f1c.../actions/comments} into {@code cards/{id}/actions/comments}: the API version prefix
+     * is dropped and identifier segments are replaced with {@code {id}}.
+     */
+    public static String endpointTemplate(String path) {
+        String[] segments = path.replaceAll("^/+|/+$", "").split("/+");
+        StringBuilder template = new StringBuilder();
+
+        // The first segment is the API version (`1`), unless the base URL already carries a path of its own
+        int start = segments.length > 1 && segments[0].matches("\\d+") ? 1 : 0;
+        for (int i = start; i < segments.length; i++) {
+            if (!template.isEmpty()) {
+                template.append('/');
+            }
+            template.append(IDENTIFIER.matcher(segments[i]).matches() ? "{id}" : segments[i]);
+        }
+
+        return template.toString();
+    }
+
+    /** Number of bytes {@code text} takes in UTF-8, without encoding it. */
+    static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void recordResponse(Span span, HttpResponse<?> response) {
+        int status = response.getStatus().getCode();
+        span.setAttribute(HTTP_STATUS, (long) status);
+
+        // The declared length when the server sends one, otherwise the body is measured in place rather than encoded again
+        OptionalLong contentLength = response.getHeaders() != null ? response.getHeaders().firstValueAsLong("Content-Length") : OptionalLong.empty();
+        if (contentLength.isPresent()) {
+            span.setAttribute(HTTP_BODY_SIZE, contentLength.getAsLong());
+        } else if (response.getBody() instanceof String body) {
+            span.setAttribute(HTTP_BODY_SIZE, utf8Length(body));
+        }
+
+        if (status >= 400) {
+            span.setStatus(StatusCode.ERROR);
+        }
+    }
+}
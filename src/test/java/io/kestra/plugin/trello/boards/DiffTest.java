@@ -0,0 +1,87 @@
+package io.kestra.plugin.trello.boards;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DiffTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testDiffUnsortedSnapshots() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        // Out of key order, and larger than the sort buffer, so the before snapshot is sorted on disk
+        URI before = snapshot(runContext, List.of(
+            Map.of("id", "card3", "name", "Third", "idList", "list1"),
+            Map.of("id", "card1", "name", "First", "idList", "list1"),
+            Map.of("id", "card2", "name", "Second", "idList", "list1")
+        ));
+        URI after = snapshot(runContext, List.of(
+            Map.of("id", "card1", "name", "First", "idList", "list1"),
+            Map.of("id", "card3", "name", "Third", "idList", "list2"),
+            Map.of("id", "card4", "name", "Fourth", "idList", "list1")
+        ));
+
+        Diff task = Diff.builder()
+            .id("test-board-diff")
+            .type(Diff.class.getName())
+            .before(Property.ofValue(before.toString()))
+            .after(Property.ofValue(after.toString()))
+            .sortBufferSize(Property.ofValue(2))
+            .build();
+
+        Diff.Output output = task.run(runContext);
+
+        assertEquals(1, output.getAdded());
+        assertEquals(1, output.getRemoved());
+        assertEquals(1, output.getChanged());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri()), StandardCharsets.UTF_8))) {
+            List<Map<String, Object>> rows = reader.lines()
+                .map(line -> {
+                    try {
+                        return JacksonMapper.ofIon().readValue(line, new TypeReference<Map<String, Object>>() {});
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+
+            assertEquals(List.of("card2", "card3", "card4"), rows.stream().map(row -> row.get("key")).toList());
+            assertEquals("CHANGED", rows.get(1).get("type"));
+            assertEquals("idList", ((Map<?, ?>) ((List<?>) rows.get(1).get("changes")).getFirst()).get("field"));
+        }
+    }
+
+    private static URI snapshot(RunContext runContext, List<Map<String, Object>> cards) throws Exception {
+        Path file = runContext.workingDir().createTempFile(".ion");
+        StringBuilder content = new StringBuilder();
+        for (Map<String, Object> card : cards) {
+            content.append(JacksonMapper.ofIon().writeValueAsString(card)).append('\n');
+        }
+        Files.writeString(file, content.toString());
+        return runContext.storage().putFile(file.toFile());
+    }
+}
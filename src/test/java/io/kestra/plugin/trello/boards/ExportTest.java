@@ -0,0 +1,99 @@
+package io.kestra.plugin.trello.boards;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExportTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testExportCardsAsIon() throws Exception {
+        Export task = Export.builder()
+            .id("test-board-export")
+            .type(Export.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Export.Output output = task.run(runContext);
+
+        assertEquals(1, output.getCards());
+        assertNull(output.getActions());
+        assertNull(output.getActionsUri());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getCardsUri()), StandardCharsets.UTF_8))) {
+            Map<String, Object> card = JacksonMapper.ofIon().readValue(reader.readLine(), new TypeReference<Map<String, Object>>() {});
+            assertEquals("card456", card.get("cardId"));
+            assertEquals("list789", card.get("listId"));
+            assertEquals(List.of("label123"), card.get("labelIds"));
+        }
+    }
+
+    @Test
+    void testExportCardsAndActionsAsAvro() throws Exception {
+        Export task = Export.builder()
+            .id("test-board-export-avro")
+            .type(Export.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .includeActions(Property.ofValue(true))
+            .format(Property.ofValue(ExportFormat.AVRO))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Export.Output output = task.run(runContext);
+
+        assertEquals(1, output.getCards());
+        assertEquals(2, output.getActions());
+
+        List<GenericRecord> cards = readAvro(runContext.storage().getFile(output.getCardsUri()));
+        assertEquals(1, cards.size());
+        assertEquals(Export.CARD_SCHEMA, cards.getFirst().getSchema());
+        assertEquals("card456", cards.getFirst().get("cardId").toString());
+        assertInstanceOf(Long.class, cards.getFirst().get("lastActivity"));
+        assertEquals(false, cards.getFirst().get("closed"));
+
+        List<GenericRecord> actions = readAvro(runContext.storage().getFile(output.getActionsUri()));
+        assertEquals(2, actions.size());
+        assertEquals("updateCard", actions.getFirst().get("type").toString());
+        assertEquals("list790", actions.getFirst().get("listAfterId").toString());
+        assertEquals("card123", actions.get(1).get("cardId").toString());
+    }
+
+    private static List<GenericRecord> readAvro(InputStream inputStream) throws Exception {
+        List<GenericRecord> records = new ArrayList<>();
+        try (DataFileStream<GenericRecord> stream = new DataFileStream<>(inputStream, new GenericDatumReader<>())) {
+            stream.forEach(records::add);
+        }
+        return records;
+    }
+}
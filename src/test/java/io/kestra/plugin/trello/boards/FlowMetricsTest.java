@@ -0,0 +1,114 @@
+package io.kestra.plugin.trello.boards;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowMetricsTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testFlowMetricsFromActions() throws Exception {
+        FlowMetrics task = FlowMetrics.builder()
+            .id("test-flow-metrics")
+            .type(FlowMetrics.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .doneListIds(Property.ofValue(List.of("list790")))
+            .stateKey(Property.ofValue(IdUtils.create()))
+            .store(Property.ofValue(true))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        FlowMetrics.Output output = task.run(runContext);
+
+        assertEquals(2, output.getActionsProcessed());
+        assertEquals(1, output.getThroughput());
+        assertEquals(1L, output.getCompletedTotal());
+        assertNull(output.getCycleTime());
+        assertNotNull(output.getUri());
+
+        FlowMetrics.ListMetrics todo = output.getLists().stream().filter(list -> list.getListId().equals("list789")).findFirst().orElseThrow();
+        assertEquals(1L, todo.getWip());
+        assertEquals(1L, todo.getEntered());
+    }
+
+    @Test
+    void testSecondRunOnlyProcessesNewActions() throws Exception {
+        FlowMetrics task = FlowMetrics.builder()
+            .id("test-flow-metrics-incremental")
+            .type(FlowMetrics.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .doneListIds(Property.ofValue(List.of("list790")))
+            .stateKey(Property.ofValue(IdUtils.create()))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        FlowMetrics.Output first = task.run(runContext);
+        assertEquals(2, first.getActionsProcessed());
+
+        // The stub ignores `since` and returns the same actions, which the checkpoint must filter out
+        FlowMetrics.Output second = task.run(runContext);
+        assertEquals(0, second.getActionsProcessed());
+        assertEquals(0, second.getThroughput());
+        assertEquals(first.getCompletedTotal(), second.getCompletedTotal());
+    }
+
+    @Test
+    void testArchivedAndDeletedCardsLeaveWip() throws Exception {
+        FlowMetrics task = FlowMetrics.builder()
+            .id("test-flow-metrics-closing")
+            .type(FlowMetrics.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board-closing"))
+            .doneListIds(Property.ofValue(List.of("list790")))
+            .stateKey(Property.ofValue(IdUtils.create()))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        FlowMetrics.Output output = task.run(runContext);
+
+        assertEquals(4, output.getActionsProcessed());
+        assertEquals(0, output.getThroughput());
+
+        FlowMetrics.ListMetrics todo = output.getLists().stream().filter(list -> list.getListId().equals("list789")).findFirst().orElseThrow();
+        assertEquals(0L, todo.getWip());
+        assertEquals(2L, todo.getEntered());
+        assertEquals(2L, todo.getExited());
+        // Leaving the board is not a move to another list, so it adds no time in list
+        assertEquals(0L, todo.getTimeInList().getCount());
+    }
+
+    @Test
+    void testQuantileSketchRelativeError() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 1; i <= 1000; i++) {
+            sketch.add(i * 60.0);
+        }
+
+        assertEquals(500 * 60.0, sketch.quantile(0.5), 500 * 60.0 * 0.02);
+        assertEquals(950 * 60.0, sketch.quantile(0.95), 950 * 60.0 * 0.02);
+        assertNull(new QuantileSketch().quantile(0.5));
+    }
+}
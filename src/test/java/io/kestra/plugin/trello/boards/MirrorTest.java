@@ -0,0 +1,88 @@
+package io.kestra.plugin.trello.boards;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+import io.kestra.plugin.trello.stubs.TrelloMockController;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MirrorTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testMirrorCopiesThenAppliesChanges() throws Exception {
+        Mirror task = Mirror.builder()
+            .id("test-mirror-board")
+            .type(Mirror.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .sourceBoardId(Property.ofValue("board123"))
+            .targetBoardId(Property.ofValue("board456"))
+            .stateKey(Property.ofValue(IdUtils.create()))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        // First run copies the open cards of the source board
+        Mirror.Output first = task.run(runContext);
+        assertEquals(1, first.getCreated());
+        assertEquals(0, first.getUpdated());
+        assertEquals("action002", first.getCheckpoint());
+
+        // Second run only applies the cards named in the actions feed
+        Mirror.Output second = task.run(runContext);
+        assertEquals(1, second.getCreated());
+        assertEquals(1, second.getUpdated());
+    }
+
+    @Test
+    void testMirrorInUnmappedListIsArchived() throws Exception {
+        String stateKey = IdUtils.create();
+        Mirror task = Mirror.builder()
+            .id("test-mirror-unmapped")
+            .type(Mirror.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .sourceBoardId(Property.ofValue("board123"))
+            .targetBoardId(Property.ofValue("board456"))
+            .stateKey(Property.ofValue(stateKey))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        assertEquals(1, task.run(runContext).getCreated());
+
+        // The source list now maps to a list the target board does not have
+        Mirror unmapped = Mirror.builder()
+            .id("test-mirror-unmapped")
+            .type(Mirror.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .sourceBoardId(Property.ofValue("board123"))
+            .targetBoardId(Property.ofValue("board456"))
+            .stateKey(Property.ofValue(stateKey))
+            .listMapping(Property.ofValue(Map.of("To Do", "Missing")))
+            .build();
+        Mirror.Output output = unmapped.run(runContext);
+
+        // card456 had a mirror, which is archived; card123 never had one and is skipped
+        assertEquals(0, output.getUpdated());
+        assertEquals(1, output.getArchived());
+        assertEquals(1, output.getSkipped());
+        assertEquals("{\"closed\":true}", TrelloMockController.bodiesOf("PUT /cards/test-card-id").getLast());
+    }
+}
@@ -0,0 +1,88 @@
+package io.kestra.plugin.trello.cards;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ActionTriggerTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEmitsOnlyRequestedActionTypes() throws Exception {
+        ActionTrigger trigger = ActionTrigger.builder()
+            .id("test-action-trigger")
+            .type(ActionTrigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .lists(Property.ofValue(List.of("list789")))
+            .actionTypes(Property.ofValue(List.of("createCard", "commentCard")))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isPresent());
+        assertEquals(2, execution.get().getTrigger().getVariables().get("count"));
+
+        // The board's updateCard action is filtered out by Trello, and actions come oldest first
+        List<Map<String, Object>> actions = (List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("actions");
+        assertEquals("createCard", actions.getFirst().get("type"));
+        assertEquals("card123", actions.getFirst().get("cardId"));
+        assertEquals("commentCard", actions.get(1).get("type"));
+        assertEquals("Ready for review", actions.get(1).get("text"));
+        assertEquals("list789", actions.get(1).get("listId"));
+        assertEquals("member123", actions.get(1).get("memberCreatorId"));
+    }
+
+    @Test
+    void testDoesNotEmitTheSameActionTwice() throws Exception {
+        ActionTrigger trigger = ActionTrigger.builder()
+            .id("test-action-trigger-watermark")
+            .type(ActionTrigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .lists(Property.ofValue(List.of("list789")))
+            .actionTypes(Property.ofValue(List.of("commentCard")))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        assertTrue(trigger.evaluate(context.getKey(), context.getValue()).isPresent());
+        assertTrue(trigger.evaluate(context.getKey(), context.getValue()).isEmpty());
+    }
+
+    @Test
+    void testRequiresASource() {
+        ActionTrigger trigger = ActionTrigger.builder()
+            .id("test-action-trigger-invalid")
+            .type(ActionTrigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .actionTypes(Property.ofValue(List.of("commentCard")))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        assertThrows(IllegalArgumentException.class, () -> trigger.evaluate(context.getKey(), context.getValue()));
+    }
+}
@@ -0,0 +1,86 @@
+package io.kestra.plugin.trello.cards;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArchiveTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testArchiveMatchingCards() throws Exception {
+        Archive task = Archive.builder()
+            .id("test-archive-cards")
+            .type(Archive.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardIds(Property.ofValue(List.of("board123", "board456")))
+            .inactiveFor(Property.ofValue(Duration.ofMinutes(1)))
+            .labelIds(Property.ofValue(List.of("label123")))
+            .dryRun(Property.ofValue(false))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Archive.Output output = task.run(runContext);
+
+        assertEquals(2, output.getMatched());
+        assertEquals(2, output.getArchived());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri()), StandardCharsets.UTF_8))) {
+            assertEquals(2, reader.lines().count());
+        }
+    }
+
+    @Test
+    void testDryRunDoesNotArchive() throws Exception {
+        Archive task = Archive.builder()
+            .id("test-archive-dry-run")
+            .type(Archive.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardIds(Property.ofValue(List.of("board123")))
+            .inactiveFor(Property.ofValue(Duration.ofDays(90)))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Archive.Output output = task.run(runContext);
+
+        // The mock card was active two minutes ago
+        assertEquals(0, output.getMatched());
+        assertEquals(0, output.getArchived());
+    }
+
+    @Test
+    void testRunWithoutFilterFails() {
+        Archive task = Archive.builder()
+            .id("test-archive-no-filter")
+            .type(Archive.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardIds(Property.ofValue(List.of("board123")))
+            .dryRun(Property.ofValue(false))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+    }
+}
@@ -0,0 +1,153 @@
+package io.kestra.plugin.trello.cards;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+import io.kestra.plugin.trello.QuotaOptions;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkChecklistTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testOnlyMissingChangesAreSent() throws Exception {
+        BulkChecklist task = BulkChecklist.builder()
+            .id("test-bulk-checklist")
+            .type(BulkChecklist.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .from(List.of(
+                Map.of("cardId", "card123", "checklist", "Release", "item", "Changelog", "state", "complete"),
+                Map.of("cardId", "card123", "checklist", "Release", "item", "Tag", "state", "complete"),
+                Map.of("cardId", "card123", "checklist", "Release", "item", "Deploy"),
+                Map.of("cardId", "card456", "checklist", "QA", "item", "Smoke test", "state", "complete"),
+                Map.of("cardId", "card456", "checklist", "Release")
+            ))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        BulkChecklist.Output output = task.run(runContext);
+
+        assertEquals(1, output.getChecklistsCreated());
+        assertEquals(2, output.getCreated());
+        assertEquals(1, output.getUpdated());
+        assertEquals(2, output.getUnchanged());
+        assertEquals(0, output.getFailed());
+
+        List<Map<String, Object>> report = readReport(runContext, output);
+
+        assertEquals(5, report.size());
+        assertEquals("UPDATED", report.getFirst().get("result"));
+        assertEquals("checkitem-changelog-card123", report.getFirst().get("checkItemId"));
+        // The item is already complete, so no request is sent for it
+        assertEquals("UNCHANGED", report.get(1).get("result"));
+        assertEquals("CREATED", report.get(2).get("result"));
+        assertEquals("checklist-release-card123", report.get(2).get("checklistId"));
+        assertNotNull(report.get(2).get("checkItemId"));
+        assertEquals("CREATED", report.get(3).get("result"));
+        assertNotEquals("checklist-release-card456", report.get(3).get("checklistId"));
+        assertEquals("UNCHANGED", report.get(4).get("result"));
+        assertEquals("checklist-release-card456", report.get(4).get("checklistId"));
+    }
+
+    @Test
+    void testQuotaRejectionFailsOnlyTheRowsItStopped() throws Exception {
+        // A token of its own with a two-request budget: both checklist reads go through, the item update is rejected
+        BulkChecklist task = BulkChecklist.builder()
+            .id("test-bulk-checklist-quota")
+            .type(BulkChecklist.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("bulk-checklist-quota-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .quota(QuotaOptions.builder()
+                .requestLimit(Property.ofValue(2))
+                .namespaceShare(Property.ofValue(1.0))
+                .onExceeded(Property.ofValue(QuotaOptions.OnExceeded.REJECT))
+                .build())
+            .from(List.of(
+                Map.of("cardId", "card123", "checklist", "Release", "item", "Changelog", "state", "complete"),
+                Map.of("cardId", "card456", "checklist", "Release", "item", "Tag")
+            ))
+            .maxConcurrency(Property.ofValue(1))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        BulkChecklist.Output output = task.run(runContext);
+
+        assertEquals(1, output.getFailed());
+        assertEquals(1, output.getUnchanged());
+
+        List<Map<String, Object>> report = readReport(runContext, output);
+        assertEquals("FAILED", report.getFirst().get("result"));
+        assertEquals("UNCHANGED", report.get(1).get("result"));
+    }
+
+    @Test
+    void testChecklistCreatedWithoutIdFailsItsRows() throws Exception {
+        BulkChecklist task = BulkChecklist.builder()
+            .id("test-bulk-checklist-no-id")
+            .type(BulkChecklist.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .from(List.of(
+                Map.of("cardId", "card123", "checklist", "Without ID", "item", "First"),
+                Map.of("cardId", "card123", "checklist", "Without ID", "item", "Second"),
+                Map.of("cardId", "card123", "checklist", "Release", "item", "Changelog")
+            ))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        BulkChecklist.Output output = task.run(runContext);
+
+        assertEquals(0, output.getChecklistsCreated());
+        assertEquals(2, output.getFailed());
+        assertEquals(1, output.getUnchanged());
+    }
+
+    @Test
+    void testStateWithoutItemFails() {
+        BulkChecklist task = BulkChecklist.builder()
+            .id("test-bulk-checklist-invalid")
+            .type(BulkChecklist.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .from(List.of(Map.of("cardId", "card123", "checklist", "Release", "state", "complete")))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+    }
+
+    private static List<Map<String, Object>> readReport(RunContext runContext, BulkChecklist.Output output) throws Exception {
+        List<Map<String, Object>> report = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri()), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                report.add(JacksonMapper.ofIon().readValue(line, new TypeReference<Map<String, Object>>() {}));
+            }
+        }
+        return report;
+    }
+}
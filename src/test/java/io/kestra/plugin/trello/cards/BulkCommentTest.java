@@ -0,0 +1,183 @@
+package io.kestra.plugin.trello.cards;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+import io.kestra.plugin.trello.QuotaOptions;
+import io.kestra.plugin.trello.stubs.TrelloMockController;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkCommentTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testBulkCommentKeepsOrderPerCard() throws Exception {
+        BulkComment task = BulkComment.builder()
+            .id("test-bulk-comment")
+            .type(BulkComment.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .from(List.of(
+                Map.of("cardId", "card123", "version", "2.4.0"),
+                Map.of("cardId", "card456", "version", "2.4.0"),
+                Map.of("cardId", "card123", "version", "2.4.1")
+            ))
+            .text(Property.ofValue("Shipped in {{ row.version }}"))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        BulkComment.Output output = task.run(runContext);
+
+        assertEquals(3, output.getPosted());
+        assertEquals(0, output.getFailed());
+
+        List<Map<String, Object>> report = readReport(runContext, output);
+
+        assertEquals(3, report.size());
+        assertEquals("card123", report.getFirst().get("cardId"));
+        assertEquals("card456", report.get(1).get("cardId"));
+        report.forEach(row -> assertNotNull(row.get("commentId")));
+
+        // Comments of the same card are created in row order
+        assertTrue(commentNumber(report.getFirst()) < commentNumber(report.get(2)));
+    }
+
+    @Test
+    void testTextIsRenderedForEachRow() throws Exception {
+        BulkComment task = BulkComment.builder()
+            .id("test-bulk-comment-template")
+            .type(BulkComment.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .from(List.of(
+                Map.of("cardId", "card-template-1", "ticket", "OPS-112"),
+                Map.of("cardId", "card-template-2", "ticket", "OPS-118"),
+                Map.of("cardId", "card-template-1", "ticket", "OPS-120")
+            ))
+            .text(Property.ofExpression("Shipped with {{ row.ticket }}"))
+            .build();
+
+        BulkComment.Output output = task.run(runContextFactory.of());
+
+        assertEquals(3, output.getPosted());
+        assertEquals(List.of("Shipped with OPS-112", "Shipped with OPS-120"), TrelloMockController.commentsOf("card-template-1"));
+        assertEquals(List.of("Shipped with OPS-118"), TrelloMockController.commentsOf("card-template-2"));
+    }
+
+    @Test
+    void testQuotaRejectionIsReportedPerRow() throws Exception {
+        // A token of its own, so requests of other tests do not count against the one-request budget
+        BulkComment task = BulkComment.builder()
+            .id("test-bulk-comment-quota")
+            .type(BulkComment.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("bulk-comment-quota-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .quota(QuotaOptions.builder()
+                .requestLimit(Property.ofValue(1))
+                .namespaceShare(Property.ofValue(1.0))
+                .onExceeded(Property.ofValue(QuotaOptions.OnExceeded.REJECT))
+                .build())
+            .from(List.of(
+                Map.of("cardId", "card-quota-1", "version", "2.4.0"),
+                Map.of("cardId", "card-quota-1", "version", "2.4.1"),
+                Map.of("cardId", "card-quota-2", "version", "2.4.0")
+            ))
+            .text(Property.ofValue("Shipped in {{ row.version }}"))
+            .maxConcurrency(Property.ofValue(1))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        BulkComment.Output output = task.run(runContext);
+
+        assertEquals(1, output.getPosted());
+        assertEquals(2, output.getFailed());
+
+        List<Map<String, Object>> report = readReport(runContext, output);
+        assertNotNull(report.getFirst().get("commentId"));
+        assertNull(report.getFirst().get("error"));
+        report.subList(1, 3).forEach(row -> {
+            assertNull(row.get("commentId"));
+            assertNotNull(row.get("error"));
+        });
+    }
+
+    @Test
+    void testRowWithoutCardIdFails() {
+        BulkComment task = BulkComment.builder()
+            .id("test-bulk-comment-invalid")
+            .type(BulkComment.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .from(List.of(Map.of("version", "2.4.0")))
+            .text(Property.ofValue("Shipped in {{ row.version }}"))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+    }
+
+    @Test
+    void testRowsAreReadFromInternalStorage() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        Path rows = runContext.workingDir().createTempFile(".ion");
+        Files.writeString(rows, JacksonMapper.ofIon().writeValueAsString(Map.of("cardId", "card123", "version", "3.0.0")) + "\n"
+            + JacksonMapper.ofIon().writeValueAsString(Map.of("cardId", "card456", "version", "3.0.0")) + "\n");
+        URI uri = runContext.storage().putFile(rows.toFile());
+
+        BulkComment task = BulkComment.builder()
+            .id("test-bulk-comment-storage")
+            .type(BulkComment.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .from(uri.toString())
+            .text(Property.ofValue("Shipped in {{ row.version }}"))
+            .build();
+
+        BulkComment.Output output = task.run(runContext);
+
+        assertEquals(2, output.getPosted());
+        assertEquals(List.of("card123", "card456"), readReport(runContext, output).stream().map(row -> row.get("cardId")).toList());
+    }
+
+    private static List<Map<String, Object>> readReport(RunContext runContext, BulkComment.Output output) throws Exception {
+        List<Map<String, Object>> report = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri()), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                report.add(JacksonMapper.ofIon().readValue(line, new TypeReference<Map<String, Object>>() {}));
+            }
+        }
+        return report;
+    }
+
+    private static int commentNumber(Map<String, Object> row) {
+        return Integer.parseInt(((String) row.get("commentId")).substring("comment-".length()));
+    }
+}
@@ -0,0 +1,91 @@
+package io.kestra.plugin.trello.cards;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardFingerprintsTest {
+
+    private static JsonNode card(String name, String idList, String due) throws Exception {
+        return JacksonMapper.ofJson().readTree("""
+            {
+              "id": "card123",
+              "name": "%s",
+              "desc": "Description",
+              "idList": "%s",
+              "due": %s,
+              "closed": false,
+              "idLabels": ["label2", "label1"],
+              "idMembers": []
+            }
+            """.formatted(name, idList, due == null ? "null" : "\"" + due + "\""));
+    }
+
+    @Test
+    void testReportsChangedFieldsWithCheapOldValues() throws Exception {
+        CardFingerprints fingerprints = new CardFingerprints();
+
+        JsonNode original = card("Original", "list1", null);
+        assertNull(fingerprints.update("card123", CardFingerprints.Fingerprint.of(original), original));
+
+        JsonNode moved = card("Renamed", "list2", "2026-01-01T10:00:00Z");
+        List<CardFingerprints.Change> changes = fingerprints.update("card123", CardFingerprints.Fingerprint.of(moved), moved);
+
+        assertEquals(List.of("name", "idList", "due"), changes.stream().map(CardFingerprints.Change::field).toList());
+        assertEquals("list1", changes.get(1).oldValue());
+        assertEquals("list2", changes.get(1).newValue());
+        assertNull(changes.get(2).oldValue());
+        assertEquals("2026-01-01T10:00:00Z", changes.get(2).newValue());
+    }
+
+    @Test
+    void testClosedCardsAreForgottenAfterTheirChangeIsReported() throws Exception {
+        CardFingerprints fingerprints = new CardFingerprints();
+        for (int i = 0; i < 5000; i++) {
+            JsonNode node = card("Card " + i, "list" + (i % 7), null);
+            fingerprints.update("card" + i, CardFingerprints.Fingerprint.of(node), node);
+        }
+
+        for (int i = 0; i < 5000; i += 2) {
+            ObjectNode archived = (ObjectNode) card("Card " + i, "list" + (i % 7), null);
+            archived.put("closed", true);
+            List<CardFingerprints.Change> changes = fingerprints.update("card" + i, CardFingerprints.Fingerprint.of(archived), archived);
+            assertEquals(List.of("closed"), changes.stream().map(CardFingerprints.Change::field).toList());
+        }
+
+        CardFingerprints restored = CardFingerprints.deserialize(fingerprints.serialize());
+        assertEquals(2500, restored.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 1, restored.contains("card" + i), "card" + i);
+        }
+
+        // A card first seen closed is not stored at all
+        ObjectNode closed = (ObjectNode) card("Closed", "list1", null);
+        closed.put("closed", true);
+        assertNull(restored.update("card-closed", CardFingerprints.Fingerprint.of(closed), closed));
+        assertFalse(restored.contains("card-closed"));
+    }
+
+    @Test
+    void testSerializationRoundTrip() throws Exception {
+        CardFingerprints fingerprints = new CardFingerprints();
+        for (int i = 0; i < 5000; i++) {
+            JsonNode node = card("Card " + i, "list" + (i % 7), null);
+            fingerprints.update("card" + i, CardFingerprints.Fingerprint.of(node), node);
+        }
+
+        CardFingerprints restored = CardFingerprints.deserialize(fingerprints.serialize());
+        assertEquals(5000, restored.size());
+
+        JsonNode unchanged = card("Card 42", "list0", null);
+        assertTrue(restored.update("card42", CardFingerprints.Fingerprint.of(unchanged), unchanged).isEmpty());
+        assertFalse(restored.isDirty());
+    }
+}
@@ -1,18 +1,27 @@
 package io.kestra.plugin.trello.cards;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import io.kestra.core.context.TestRunContextFactory;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.trello.AbstractTrelloTest;
+import io.kestra.plugin.trello.stubs.TrelloMockController;
 
 import jakarta.inject.Inject;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CreateTest extends AbstractTrelloTest {
 
@@ -53,4 +62,106 @@ public class CreateTest extends AbstractTrelloTest {
         RunContext runContext = runContextFactory.of();
         assertDoesNotThrow(() -> task.run(runContext));
     }
+
+    @Test
+    void testCreateCardFromTemplate() throws Exception {
+        Create task = Create.builder()
+            .id("test-create-card-template")
+            .type(Create.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .name(Property.ofValue("Card from Template"))
+            .listId(Property.ofValue("list123"))
+            .templateCardId(Property.ofValue("template123"))
+            .keepFromSource(Property.ofValue(List.of("checklists", "labels")))
+            .desc(Property.ofValue("Overridden description"))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Create.Output output = (Create.Output) task.run(runContext);
+
+        assertEquals("test-card-id", output.getCardId());
+
+        // The copy is made server-side, with the description left to the follow-up update
+        JsonNode created = TrelloMockController.bodiesOf("POST /cards").stream()
+            .map(CreateTest::readJson)
+            .filter(body -> body.path("name").asText().equals("Card from Template"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals("template123", created.path("idCardSource").asText());
+        assertEquals("checklists,labels", created.path("keepFromSource").asText());
+        assertFalse(created.has("desc"));
+
+        assertTrue(TrelloMockController.bodiesOf("PUT /cards/test-card-id").stream()
+            .map(CreateTest::readJson)
+            .anyMatch(body -> body.path("desc").asText().equals("Overridden description")));
+    }
+
+    @Test
+    void testCreateCardWithChecklistsAndCustomFields() throws Exception {
+        Create task = Create.builder()
+            .id("test-create-card-dependents")
+            .type(Create.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .name(Property.ofValue("Incident Card"))
+            .listId(Property.ofValue("list123"))
+            .labelIds(Property.ofValue(List.of("label123", "label456")))
+            .memberIds(Property.ofValue(List.of("member123")))
+            .checklists(Property.ofValue(List.of(
+                Create.Checklist.builder().name("Triage").items(List.of("Acknowledge", "Assess impact")).build(),
+                Create.Checklist.builder().name("Follow-up").items(List.of("Write postmortem")).build()
+            )))
+            .customFields(Property.ofValue(Map.of("field123", "P1")))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        Create.Output output = (Create.Output) task.run(runContext);
+
+        assertEquals("test-card-id", output.getCardId());
+        assertEquals(2, output.getChecklists().size());
+        assertEquals("Triage", output.getChecklists().getFirst().getName());
+        assertEquals(2, output.getChecklists().getFirst().getItemIds().size());
+        assertEquals(1, output.getChecklists().get(1).getItemIds().size());
+        assertEquals(List.of("field123"), output.getCustomFieldIds());
+
+        // Checklists are created concurrently, so their order comes from explicit positions
+        List<JsonNode> checklistBodies = TrelloMockController.bodiesOf("POST /checklists").stream()
+            .map(CreateTest::readJson)
+            .filter(body -> body.path("idCard").asText().equals("test-card-id"))
+            .toList();
+        assertEquals("1024", checklistBodies.stream().filter(body -> body.path("name").asText().equals("Triage")).findFirst().orElseThrow().path("pos").asText());
+        assertEquals("2048", checklistBodies.stream().filter(body -> body.path("name").asText().equals("Follow-up")).findFirst().orElseThrow().path("pos").asText());
+    }
+
+    @Test
+    void testChecklistWithoutIdFails() {
+        Create task = Create.builder()
+            .id("test-create-card-checklist-no-id")
+            .type(Create.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .name(Property.ofValue("Incident Card"))
+            .listId(Property.ofValue("list123"))
+            .checklists(Property.ofValue(List.of(
+                Create.Checklist.builder().name("Without ID").items(List.of("Acknowledge")).build()
+            )))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> task.run(runContext));
+        assertTrue(exception.getMessage().contains("no checklist ID"));
+    }
+
+    private static JsonNode readJson(String body) {
+        try {
+            return JacksonMapper.ofJson().readTree(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
 }
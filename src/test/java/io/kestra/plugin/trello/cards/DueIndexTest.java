@@ -0,0 +1,82 @@
+package io.kestra.plugin.trello.cards;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DueIndexTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Test
+    void testPollsOnlyDueCardsEarliestFirst() {
+        DueIndex index = new DueIndex();
+        index.put("later", NOW.plus(Duration.ofHours(5)), "Later", null);
+        index.put("soon", NOW.plus(Duration.ofHours(1)), "Soon", null);
+        index.put("sooner", NOW.plus(Duration.ofMinutes(30)), "Sooner", null);
+
+        assertEquals(List.of("sooner", "soon"), ids(index.pollDue(NOW.plus(Duration.ofHours(2)))));
+        // A card is only taken once
+        assertTrue(index.pollDue(NOW.plus(Duration.ofHours(2))).isEmpty());
+        assertEquals(List.of("later"), ids(index.pollDue(NOW.plus(Duration.ofHours(6)))));
+    }
+
+    @Test
+    void testRescheduledCardMovesInTheQueue() {
+        DueIndex index = new DueIndex();
+        index.put("card123", NOW.plus(Duration.ofHours(1)), "Card", null);
+        index.put("card123", NOW.plus(Duration.ofHours(10)), null, null);
+
+        // The slot of the old due date is stale and skipped
+        assertTrue(index.pollDue(NOW.plus(Duration.ofHours(2))).isEmpty());
+
+        List<Map.Entry<String, DueIndex.Entry>> due = index.pollDue(NOW.plus(Duration.ofHours(11)));
+        assertEquals(List.of("card123"), ids(due));
+        assertEquals("Card", due.getFirst().getValue().getName());
+
+        // Moving the due date of a card already taken announces it again
+        index.put("card123", NOW.plus(Duration.ofHours(20)), null, null);
+        assertEquals(List.of("card123"), ids(index.pollDue(NOW.plus(Duration.ofHours(21)))));
+    }
+
+    @Test
+    void testRemovedCardIsNotPolled() {
+        DueIndex index = new DueIndex();
+        index.put("card123", NOW.plus(Duration.ofHours(1)), "Card", null);
+        index.put("card456", NOW.plus(Duration.ofHours(1)), "Other", null);
+        index.remove("card123");
+        index.put("card456", null, null, null);
+
+        assertTrue(index.pollDue(NOW.plus(Duration.ofHours(2))).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testSerializationRoundTrip() throws Exception {
+        DueIndex index = new DueIndex();
+        index.setBoardId("board123");
+        index.setCheckpoint("action001");
+        index.put("fired", NOW.plus(Duration.ofMinutes(10)), "Fired", "https://trello.com/c/fired");
+        index.put("pending", NOW.plus(Duration.ofHours(3)), "Pending", "https://trello.com/c/pending");
+        index.pollDue(NOW.plus(Duration.ofHours(1)));
+
+        DueIndex restored = DueIndex.deserialize(index.serialize());
+
+        assertEquals("board123", restored.getBoardId());
+        assertEquals("action001", restored.getCheckpoint());
+        assertEquals(2, restored.size());
+        assertFalse(restored.isDirty());
+
+        List<Map.Entry<String, DueIndex.Entry>> due = restored.pollDue(NOW.plus(Duration.ofHours(4)));
+        assertEquals(List.of("pending"), ids(due));
+        assertEquals("https://trello.com/c/pending", due.getFirst().getValue().getUrl());
+    }
+
+    private static List<String> ids(List<Map.Entry<String, DueIndex.Entry>> entries) {
+        return entries.stream().map(Map.Entry::getKey).toList();
+    }
+}
@@ -0,0 +1,70 @@
+package io.kestra.plugin.trello.cards;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DueTriggerTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEmitsCardsWithinLeadTimeOnce() throws Exception {
+        DueTrigger trigger = DueTrigger.builder()
+            .id("test-due-trigger")
+            .type(DueTrigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .leadTime(Property.ofValue(Duration.ofHours(25)))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isPresent());
+        List<Map<String, Object>> cards = (List<Map<String, Object>>) execution.get().getTrigger().getVariables().get("cards");
+        assertEquals(1, cards.size());
+        assertEquals("card456", cards.getFirst().get("cardId"));
+        assertEquals("Board Test Card", cards.getFirst().get("cardName"));
+        assertNotNull(cards.getFirst().get("due"));
+
+        // The next evaluation only applies the new board actions and has nothing left to announce
+        assertTrue(trigger.evaluate(context.getKey(), context.getValue()).isEmpty());
+    }
+
+    @Test
+    void testCardsOutsideLeadTimeAreNotEmitted() throws Exception {
+        DueTrigger trigger = DueTrigger.builder()
+            .id("test-due-trigger-later")
+            .type(DueTrigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .leadTime(Property.ofValue(Duration.ofHours(1)))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        assertTrue(trigger.evaluate(context.getKey(), context.getValue()).isEmpty());
+        assertTrue(trigger.evaluate(context.getKey(), context.getValue()).isEmpty());
+    }
+}
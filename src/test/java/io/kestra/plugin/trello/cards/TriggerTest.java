@@ -1,13 +1,22 @@
 package io.kestra.plugin.trello.cards;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.trello.AbstractTrelloTest;
+import io.kestra.plugin.trello.StateStore;
 
 import jakarta.inject.Inject;
 
@@ -87,4 +96,269 @@ public class TriggerTest extends AbstractTrelloTest {
         assertTrue(renderedLists.contains("list2"));
         assertTrue(renderedLists.contains("list3"));
     }
+
+    @Test
+    void testCardTriggerMatchingFilters() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-filter-match-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .cardStatus(Property.ofValue(CardStatus.OPEN))
+            .labelIds(Property.ofValue(List.of("label123")))
+            .memberIds(Property.ofValue(List.of("member123")))
+            .boardListIds(Property.ofValue(List.of("list789")))
+            .nameRegex(Property.ofValue("^Board"))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isPresent());
+    }
+
+    @Test
+    void testCardTriggerNonMatchingFilters() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-filter-skip-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .labelIds(Property.ofValue(List.of("another-label")))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isEmpty());
+    }
+
+    @Test
+    void testCardTriggerBoardAndListsEmitEachCardOnce() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-board-and-lists-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .lists(Property.ofValue(List.of("list789", "list123")))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isPresent());
+        List<?> cards = (List<?>) execution.get().getTrigger().getVariables().get("cards");
+        assertEquals(2, cards.size());
+    }
+
+    @Test
+    void testCardTriggerOrganizationBoards() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-organization-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .organizationId(Property.ofValue("org123"))
+            .maxConcurrency(Property.ofValue(2))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isPresent());
+    }
+
+    @Test
+    void testCardTriggerInvalidShard() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-invalid-shard-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .organizationId(Property.ofValue("org123"))
+            .shardCount(Property.ofValue(2))
+            .shardIndex(Property.ofValue(2))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        assertThrows(IllegalArgumentException.class, () -> trigger.evaluate(context.getKey(), context.getValue()));
+    }
+
+    @Test
+    void testCardTriggerTrackChanges() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-track-changes-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .trackChanges(Property.ofValue(true))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        Optional<Execution> first = trigger.evaluate(context.getKey(), context.getValue());
+        assertTrue(first.isPresent());
+
+        Optional<Execution> second = trigger.evaluate(context.getKey(), context.getValue());
+        assertTrue(second.isPresent());
+
+        List<?> cards = (List<?>) second.get().getTrigger().getVariables().get("cards");
+        Map<?, ?> card = (Map<?, ?>) cards.getFirst();
+        // the stub computes the due date from the current time, so only `due` differs between both polls
+        assertEquals(List.of("due"), card.get("changedFields"));
+    }
+
+    @Test
+    void testCardTriggerCapsCardsPerEvaluation() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-catch-up-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .lists(Property.ofValue(List.of("list123")))
+            .maxCardsPerEvaluation(Property.ofValue(1))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isPresent());
+        List<?> cards = (List<?>) execution.get().getTrigger().getVariables().get("cards");
+        assertEquals(1, cards.size());
+    }
+
+    @Test
+    void testCardTriggerOneExecutionPerCard() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-per-card-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .lists(Property.ofValue(List.of("list123")))
+            .batchSize(Property.ofValue(1))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        Optional<Execution> first = trigger.evaluate(context.getKey(), context.getValue());
+
+        // The pending batch is read back from the KV store, so the next evaluation is due right away on any scheduler
+        assertTrue(trigger.nextEvaluationDate(context.getKey(), Optional.of(context.getValue())).isBefore(ZonedDateTime.now().plusMinutes(1)));
+
+        Optional<Execution> second = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertTrue(trigger.nextEvaluationDate(context.getKey(), Optional.of(context.getValue())).isAfter(ZonedDateTime.now().plusMinutes(1)));
+
+        Map<String, Object> firstVariables = first.get().getTrigger().getVariables();
+        Map<String, Object> secondVariables = second.get().getTrigger().getVariables();
+        assertEquals(1, firstVariables.get("count"));
+        assertEquals(1, secondVariables.get("count"));
+        assertNotEquals(
+            ((Map<?, ?>) ((List<?>) firstVariables.get("cards")).getFirst()).get("cardId"),
+            ((Map<?, ?>) ((List<?>) secondVariables.get("cards")).getFirst()).get("cardId")
+        );
+    }
+
+    @Test
+    void testCardTriggerPagedWithinTimeBudget() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-paged-trigger")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .lists(Property.ofValue(List.of("list123")))
+            .pageSize(Property.ofValue(50))
+            .evaluationTimeout(Property.ofValue(java.time.Duration.ofMinutes(1)))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isPresent());
+        List<?> cards = (List<?>) execution.get().getTrigger().getVariables().get("cards");
+        assertEquals(2, cards.size());
+    }
+
+    @Test
+    void testCardTriggerResumesAfterTimeBudgetRunsOut() throws Exception {
+        Trigger trigger = Trigger.builder()
+            .id("test-paged-trigger-resume")
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board-paged"))
+            .pageSize(Property.ofValue(2))
+            .evaluationTimeout(Property.ofValue(java.time.Duration.ofSeconds(1)))
+            .build();
+
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        // The second page answers after the budget, so only the first page is emitted
+        Optional<Execution> first = trigger.evaluate(context.getKey(), context.getValue());
+        assertTrue(first.isPresent());
+        assertEquals(List.of("card-p2", "card-p3"), cardIds(first.get()));
+
+        // The next evaluation resumes from the stored cursor instead of reading the first page again
+        Optional<Execution> second = trigger.evaluate(context.getKey(), context.getValue());
+        assertTrue(second.isPresent());
+        assertEquals(List.of("card-p1"), cardIds(second.get()));
+
+        // The pass is complete, so nothing is emitted twice
+        assertTrue(trigger.evaluate(context.getKey(), context.getValue()).isEmpty());
+    }
+
+    @Test
+    void testCardTriggerCatchesUpAfterDowntime() throws Exception {
+        Trigger.TriggerBuilder<?, ?> builder = Trigger.builder()
+            .type(Trigger.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .interval(Duration.ofMinutes(1));
+
+        // Without a stored mark, only the last interval is read and the card changed two minutes ago is out of it
+        Trigger fresh = builder.id("test-trigger-no-gap").build();
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> freshContext = TestsUtils.mockTrigger(runContextFactory, fresh);
+        assertTrue(fresh.evaluate(freshContext.getKey(), freshContext.getValue()).isEmpty());
+
+        // A mark left before a two-hour outage makes the next evaluation read everything changed since
+        Trigger resumed = builder.id("test-trigger-after-gap").build();
+        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, resumed);
+        StateStore.ofTrigger(context.getKey().getRunContext(), context.getValue())
+            .put("watermarks", "{\"board:board123\":\"" + Instant.now().minus(Duration.ofHours(2)) + "|\"}");
+
+        Optional<Execution> execution = resumed.evaluate(context.getKey(), context.getValue());
+
+        assertTrue(execution.isPresent());
+        assertEquals(List.of("card456"), cardIds(execution.get()));
+        assertTrue(resumed.evaluate(context.getKey(), context.getValue()).isEmpty());
+    }
+
+    private static List<String> cardIds(Execution execution) {
+        return ((List<?>) execution.getTrigger().getVariables().get("cards")).stream()
+            .map(card -> (String) ((Map<?, ?>) card).get("cardId"))
+            .sorted()
+            .toList();
+    }
 }
@@ -0,0 +1,61 @@
+package io.kestra.plugin.trello.cards;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UpdateCustomFieldsTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testUpdateCustomFieldsGroupedPerCard() throws Exception {
+        UpdateCustomFields task = UpdateCustomFields.builder()
+            .id("test-update-custom-fields")
+            .type(UpdateCustomFields.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .from(List.of(
+                Map.of("cardId", "card123", "field", "Priority", "value", "High"),
+                Map.of("cardId", "card123", "field", "field-owner", "value", "jane"),
+                Map.of("cardId", "card456", "field", "Priority", "value", "Low")
+            ))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+        UpdateCustomFields.Output output = task.run(runContext);
+
+        assertEquals(2, output.getCardsUpdated());
+        assertEquals(3, output.getFieldsUpdated());
+    }
+
+    @Test
+    void testUnknownCustomFieldFails() {
+        UpdateCustomFields task = UpdateCustomFields.builder()
+            .id("test-update-unknown-custom-field")
+            .type(UpdateCustomFields.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(getApiBaseUrl()))
+            .boardId(Property.ofValue("board123"))
+            .from(List.of(Map.of("cardId", "card123", "field", "Severity", "value", "1")))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+    }
+}
@@ -0,0 +1,54 @@
+package io.kestra.plugin.trello.client;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+import io.kestra.plugin.trello.CircuitBreakerOptions;
+import io.kestra.plugin.trello.cards.Create;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testOpensAfterConnectionFailures() {
+        // nothing listens on port 1, so every call fails at the transport level
+        String unreachableBaseUrl = "http://127.0.0.1:1";
+
+        Create task = Create.builder()
+            .id("test-circuit-breaker")
+            .type(Create.class.getName())
+            .apiKey(Property.ofValue("test-key"))
+            .apiToken(Property.ofValue("test-token"))
+            .apiBaseUrl(Property.ofValue(unreachableBaseUrl))
+            .circuitBreaker(
+                CircuitBreakerOptions.builder()
+                    .failureThreshold(Property.ofValue(2))
+                    .openDuration(Property.ofValue(Duration.ofMinutes(5)))
+                    .build()
+            )
+            .name(Property.ofValue("Unreachable Card"))
+            .listId(Property.ofValue("list123"))
+            .build();
+
+        RunContext runContext = runContextFactory.of();
+
+        assertThrows(Exception.class, () -> task.run(runContext));
+        assertEquals(CircuitBreaker.State.CLOSED, CircuitBreaker.of(unreachableBaseUrl).getState());
+
+        assertThrows(Exception.class, () -> task.run(runContext));
+        assertEquals(CircuitBreaker.State.OPEN, CircuitBreaker.of(unreachableBaseUrl).getState());
+
+        assertThrows(CircuitBreakerOpenException.class, () -> task.run(runContext));
+    }
+}
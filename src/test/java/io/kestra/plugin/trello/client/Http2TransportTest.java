@@ -0,0 +1,129 @@
+package io.kestra.plugin.trello.client;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class Http2TransportTest extends AbstractTrelloTest {
+    private static final int CONCURRENCY = 50;
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testFallsBackToHttp1() throws Exception {
+        HttpRequest request = get("cards/card123");
+
+        HttpResponse<String> response = Http2Transport.request(request);
+
+        assertEquals(200, response.getStatus().getCode());
+        assertTrue(response.getBody().contains("card123"));
+        // The stand-in server only speaks HTTP/1.1, so the origin is remembered as such
+        assertTrue(Http2Transport.isHttp1Only(request.getUri()));
+        assertEquals(200, Http2Transport.request(request).getStatus().getCode());
+    }
+
+    @Test
+    void testUnreachableOriginIsNotDowngraded() {
+        HttpRequest request = HttpRequest.builder()
+            .method("GET")
+            .uri(URI.create("http://127.0.0.1:1/1/cards/card123"))
+            .build();
+
+        assertThrows(java.io.IOException.class, () -> Http2Transport.request(request));
+        // A refused connection says nothing about the protocol, so HTTP/2 is still tried next time
+        assertFalse(Http2Transport.isHttp1Only(request.getUri()));
+    }
+
+    @Test
+    void testErrorStatusIsThrown() {
+        HttpClientResponseException exception = assertThrows(
+            HttpClientResponseException.class,
+            () -> Http2Transport.request(get("unknown/endpoint"))
+        );
+
+        assertEquals(404, exception.getResponse().getStatus().getCode());
+    }
+
+    /**
+     * Tail latency of {@value CONCURRENCY} concurrent reads through each transport. The local server speaks HTTP/1.1,
+     * so this measures the negotiation and fallback overhead; multiplexing gains only show against an HTTP/2 server.
+     */
+    @Test
+    void benchmarkTailLatency() throws Exception {
+        HttpRequest request = get("cards/card123");
+
+        try (HttpClient httpClient = HttpClient.builder().runContext(runContextFactory.of()).build()) {
+            // Warm up connections and JIT so the first wave does not dominate the tail
+            measure(() -> httpClient.request(request, String.class));
+            measure(() -> Http2Transport.request(request));
+
+            List<Long> http1 = measure(() -> httpClient.request(request, String.class));
+            List<Long> http2 = measure(() -> Http2Transport.request(request));
+
+            log.info("{} concurrent requests, p50/p95/p99 in ms: default client {}/{}/{}, HTTP/2 transport {}/{}/{}", CONCURRENCY,
+                percentile(http1, 0.5), percentile(http1, 0.95), percentile(http1, 0.99),
+                percentile(http2, 0.5), percentile(http2, 0.95), percentile(http2, 0.99));
+
+            assertEquals(CONCURRENCY, http1.size());
+            assertEquals(CONCURRENCY, http2.size());
+        }
+    }
+
+    private HttpRequest get(String endpoint) {
+        return HttpRequest.builder()
+            .method("GET")
+            .uri(URI.create(getApiBaseUrl() + "/1/" + endpoint))
+            .addHeader("Accept", "application/json")
+            .build();
+    }
+
+    private static List<Long> measure(Callable<HttpResponse<String>> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    HttpResponse<String> response = call.call();
+                    assertEquals(200, response.getStatus().getCode());
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                latencies.add(future.get(30, TimeUnit.SECONDS));
+            }
+            Collections.sort(latencies);
+            return latencies;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double q) {
+        return sorted.get((int) Math.ceil(q * sorted.size()) - 1);
+    }
+}
@@ -0,0 +1,51 @@
+package io.kestra.plugin.trello.client;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuotaTrackerTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    private RunContext runContext(String namespace) {
+        return runContextFactory.of(Map.of("flow", Map.of("namespace", namespace, "id", "quota-flow")));
+    }
+
+    @Test
+    void testRejectsAboveNamespaceShare() throws Exception {
+        QuotaTracker tracker = QuotaTracker.of("quota-reject-key", "quota-reject-token");
+        QuotaTracker.Settings settings = new QuotaTracker.Settings(4, Duration.ofMinutes(1), 0.5, true, Duration.ofSeconds(30));
+
+        tracker.acquire(runContext("io.kestra.greedy"), settings);
+        tracker.acquire(runContext("io.kestra.greedy"), settings);
+        assertThrows(QuotaExceededException.class, () -> tracker.acquire(runContext("io.kestra.greedy"), settings));
+
+        // Another namespace on the same token keeps its own share
+        tracker.acquire(runContext("io.kestra.fair"), settings);
+        assertEquals(2, tracker.used("io.kestra.greedy", Duration.ofMinutes(1)));
+        assertEquals(1, tracker.used("io.kestra.fair", Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void testQueuesUntilWindowMoves() throws Exception {
+        QuotaTracker tracker = QuotaTracker.of("quota-queue-key", "quota-queue-token");
+        QuotaTracker.Settings settings = new QuotaTracker.Settings(1, Duration.ofMillis(200), 1.0, false, Duration.ofSeconds(5));
+
+        long start = System.nanoTime();
+        tracker.acquire(runContext("io.kestra.queued"), settings);
+        tracker.acquire(runContext("io.kestra.queued"), settings);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(150)) >= 0);
+    }
+}
@@ -0,0 +1,70 @@
+package io.kestra.plugin.trello.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestCoalescerTest {
+
+    @Test
+    void testConcurrentIdenticalReadsShareOneCall() throws Exception {
+        String key = RequestCoalescer.key("GET", "https://api.trello.com/1/boards/concurrent/cards", "key", "token");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> RequestCoalescer.get(key, Duration.ZERO, () -> {
+                    calls.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "cards";
+                })));
+            }
+
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("cards", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testCacheWindowReusesCompletedRead() throws Exception {
+        String key = RequestCoalescer.key("GET", "https://api.trello.com/1/boards/cached/cards", "key", "token");
+        AtomicInteger calls = new AtomicInteger();
+
+        RequestCoalescer.get(key, Duration.ofMinutes(1), calls::incrementAndGet);
+        Integer second = RequestCoalescer.get(key, Duration.ofMinutes(1), calls::incrementAndGet);
+
+        assertEquals(1, second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testDifferentCredentialsDoNotShare() throws Exception {
+        String url = "https://api.trello.com/1/boards/shared/cards";
+
+        assertNotEquals(
+            RequestCoalescer.key("GET", url, "key", "token-a"),
+            RequestCoalescer.key("GET", url, "key", "token-b")
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package io.kestra.plugin.trello.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.trello.AbstractTrelloTest;
+import io.kestra.plugin.trello.CircuitBreakerOptions;
+import io.kestra.plugin.trello.QuotaOptions;
+import io.kestra.plugin.trello.stubs.TrelloMockController;
+
+import jakarta.inject.Inject;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrelloClientTest extends AbstractTrelloTest {
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
+    @Test
+    void testBindsResponsesToRecords() throws Exception {
+        try (TrelloClient client = open()) {
+            TrelloRef card = client.get("cards/card123", TrelloRef.class, "card card123");
+            assertEquals("card123", card.id());
+            assertEquals("Mirrored Card", card.name());
+
+            List<TrelloRef> lists = client.getList("boards/board123/lists", TrelloRef.class, "lists of board board123");
+            assertEquals(List.of("list789", "list790"), lists.stream().map(TrelloRef::id).toList());
+        }
+    }
+
+    @Test
+    void testStreamsActions() throws Exception {
+        try (TrelloClient client = open()) {
+            List<TrelloAction> actions = new ArrayList<>();
+            int count = client.stream("boards/board123/actions", TrelloAction.class, "actions of board board123", actions::add);
+
+            assertEquals(2, count);
+            assertEquals("updateCard", actions.getFirst().type());
+            assertEquals("card456", actions.getFirst().cardId());
+            assertEquals("list790", actions.getFirst().data().listAfter().id());
+            assertNotNull(actions.getFirst().date());
+            assertEquals("list789", actions.get(1).data().list().id());
+        }
+    }
+
+    @Test
+    void testPagingEndsWhenTheServerIgnoresTheCursor() throws Exception {
+        // The mock answers every page with the same two actions, as a server ignoring `before` and `since` would
+        try (TrelloClient client = open()) {
+            List<String> ids = new ArrayList<>();
+            client.streamPages("boards/board123/actions", 2, TrelloAction.class, TrelloAction::id, null, "actions of board board123", action -> ids.add(action.id()));
+            assertEquals(List.of("action002", "action001"), ids);
+
+            List<String> newer = new ArrayList<>();
+            client.streamPages("boards/board123/actions", 2, TrelloAction.class, TrelloAction::id, "action001", "actions of board board123", action -> newer.add(action.id()));
+            assertEquals(List.of("action002"), newer);
+        }
+    }
+
+    @Test
+    void testSendsJsonBody() throws Exception {
+        try (TrelloClient client = open()) {
+            TrelloRef comment = client.send("POST", "cards/card123/actions/comments", Map.of("text", "Hello"), TrelloRef.class, "comment card card123");
+            assertTrue(comment.id().startsWith("comment-"));
+
+            assertNull(client.send("PUT", "cards/card123", Map.of("closed", true), Void.class, "update card card123"));
+        }
+    }
+
+    @Test
+    void testErrorStatusIsThrown() throws Exception {
+        try (TrelloClient client = open()) {
+            TrelloApiException exception = assertThrows(
+                TrelloApiException.class,
+                () -> client.get("unknown/endpoint", TrelloRef.class, "unknown")
+            );
+
+            assertEquals(404, exception.getStatusCode());
+            assertTrue(exception.getMessage().startsWith("Failed to fetch unknown: 404"));
+        }
+    }
+
+    @Test
+    void testRateLimitedRequestIsRetriedAfterRetryAfter() throws Exception {
+        try (TrelloClient client = open()) {
+            long start = System.nanoTime();
+            TrelloRef member = client.get("members/throttled-once", TrelloRef.class, "member throttled-once");
+
+            assertEquals("throttled-once", member.id());
+            assertEquals(2, TrelloMockController.memberRequests("throttled-once"));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) >= 0);
+        }
+    }
+
+    @Test
+    void testRateLimitWithLongRetryAfterFails() throws Exception {
+        try (TrelloClient client = open()) {
+            TrelloApiException exception = assertThrows(
+                TrelloApiException.class,
+                () -> client.get("members/throttled-long", TrelloRef.class, "member throttled-long")
+            );
+
+            assertEquals(429, exception.getStatusCode());
+            assertEquals(1, TrelloMockController.memberRequests("throttled-long"));
+        }
+    }
+
+    private TrelloClient open() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        return TrelloClient.open(runContext, new TrelloClient.Connection(
+            getApiBaseUrl(), "1", "test-key", "test-token",
+            CircuitBreakerOptions.render(runContext, null), QuotaOptions.render(runContext, null), Duration.ZERO, false
+        ));
+    }
+}
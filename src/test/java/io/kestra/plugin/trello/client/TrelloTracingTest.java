@@ -0,0 +1,45 @@
+package io.kestra.plugin.trello.client;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.http.HttpRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrelloTracingTest {
+
+    @Test
+    void testEndpointTemplateReplacesIdentifiers() {
+        assertEquals("cards/{id}", TrelloTracing.endpointTemplate("/1/cards/5f1c2b3a4d5e6f7a8b9c0d1e"));
+        assertEquals("cards/{id}/actions/comments", TrelloTracing.endpointTemplate("/1/cards/card123/actions/comments"));
+        assertEquals("boards/{id}/cards", TrelloTracing.endpointTemplate("/1/boards/board123/cards/"));
+        assertEquals("cards", TrelloTracing.endpointTemplate("/1/cards"));
+    }
+
+    @Test
+    void testUtf8LengthMatchesEncodedSize() {
+        String body = "{\"name\":\"Café 🚀 über ✓\"}";
+
+        assertEquals(body.getBytes(StandardCharsets.UTF_8).length, TrelloTracing.utf8Length(body));
+        assertEquals(0, TrelloTracing.utf8Length(""));
+    }
+
+    @Test
+    void testTraceReturnsResponseAndRethrows() {
+        HttpRequest request = HttpRequest.builder()
+            .method("GET")
+            .uri(URI.create("https://api.trello.com/1/cards/card123"))
+            .build();
+
+        IllegalStateException thrown = assertThrows(
+            IllegalStateException.class,
+            () -> TrelloTracing.trace(request, () -> {
+                throw new IllegalStateException("boom");
+            })
+        );
+        assertEquals("boom", thrown.getMessage());
+    }
+}
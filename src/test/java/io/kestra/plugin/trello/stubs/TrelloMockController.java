@@ -2,13 +2,63 @@ package io.kestra.plugin.trello.stubs;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
 
 @Controller("/1")
 public class TrelloMockController {
+    private static final AtomicInteger COMMENT_IDS = new AtomicInteger();
+
+    private static final Map<String, List<String>> COMMENTS = new ConcurrentHashMap<>();
+
+    // The first follow-up page of the paged board answers late once, to run out an evaluation's time budget
+    private static final AtomicBoolean SLOW_PAGE_SERVED = new AtomicBoolean();
+
+    // Fixed on first use, so the paged board's cards keep the same activity dates across evaluations
+    private static final AtomicReference<Instant> PAGED_ACTIVITY = new AtomicReference<>();
+
+    private static final Map<String, List<String>> BODIES = new ConcurrentHashMap<>();
+
+    private static final Map<String, AtomicInteger> MEMBER_REQUESTS = new ConcurrentHashMap<>();
+
+    /**
+     * Request bodies received for {@code request}, such as {@code POST /cards}, in the order they arrived.
+     */
+    public static List<String> bodiesOf(String request) {
+        return List.copyOf(BODIES.getOrDefault(request, List.of()));
+    }
+
+    /**
+     * Number of requests received for member {@code memberId}, rate limited ones included.
+     */
+    public static int memberRequests(String memberId) {
+        AtomicInteger requests = MEMBER_REQUESTS.get(memberId);
+        return requests != null ? requests.get() : 0;
+    }
+
+    /**
+     * Texts of the comments posted on {@code cardId}, in the order they were received.
+     */
+    public static List<String> commentsOf(String cardId) {
+        return List.copyOf(COMMENTS.getOrDefault(cardId, List.of()));
+    }
 
     @Get(uri = "/lists/{listId}/cards", produces = MediaType.APPLICATION_JSON)
     public HttpResponse<String> getListCards(String listId) {
@@ -32,8 +82,13 @@ public class TrelloMockController {
     }
 
     @Get(uri = "/boards/{boardId}/cards", produces = MediaType.APPLICATION_JSON)
-    public HttpResponse<String> getBoardCards(String boardId) {
+    public HttpResponse<String> getBoardCards(String boardId, @Nullable @QueryValue Integer limit, @Nullable @QueryValue String before) throws Exception {
+        if (boardId.equals("board-paged")) {
+            return HttpResponse.ok(pagedBoardCards(limit, before)).contentType(MediaType.APPLICATION_JSON_TYPE);
+        }
+
         String recentDate = Instant.now().minus(2, ChronoUnit.MINUTES).toString();
+        String dueDate = Instant.now().plus(1, ChronoUnit.DAYS).toString();
 
         String mockResponse = """
             [
@@ -42,18 +97,72 @@ public class TrelloMockController {
                 "name": "Board Test Card",
                 "desc": "Board Test Description",
                 "listId": "list789",
+                "idList": "list789",
                 "idBoard": "%s",
                 "shortUrl": "https://trello.com/c/card456",
-                "dateLastActivity": "%s"
+                "dateLastActivity": "%s",
+                "due": "%s",
+                "closed": false,
+                "idLabels": ["label123"],
+                "idMembers": ["member123"]
               }
             ]
-            """.formatted(boardId, recentDate);
+            """.formatted(boardId, recentDate, dueDate);
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    // Three cards served newest ID first, honoring `limit` and `before` like Trello does
+    private static String pagedBoardCards(Integer limit, String before) throws Exception {
+        if (before != null && SLOW_PAGE_SERVED.compareAndSet(false, true)) {
+            Thread.sleep(3000);
+        }
+
+        PAGED_ACTIVITY.compareAndSet(null, Instant.now().minus(2, ChronoUnit.MINUTES));
+
+        ArrayNode cards = JacksonMapper.ofJson().createArrayNode();
+        for (int i = 3; i >= 1; i--) {
+            String id = "card-p" + i;
+            if ((before == null || id.compareTo(before) < 0) && (limit == null || cards.size() < limit)) {
+                cards.addObject()
+                    .put("id", id)
+                    .put("name", "Paged Card " + i)
+                    .put("idList", "list789")
+                    .put("idBoard", "board-paged")
+                    .put("dateLastActivity", PAGED_ACTIVITY.get().minus(3 - i, ChronoUnit.MINUTES).toString());
+            }
+        }
+        return JacksonMapper.ofJson().writeValueAsString(cards);
+    }
+
+    @Get(uri = "/boards/{boardId}/lists", produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> getBoardLists(String boardId) {
+        String mockResponse = """
+            [
+              { "id": "list789", "name": "To Do" },
+              { "id": "list790", "name": "Done" }
+            ]
+            """;
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Get(uri = "/organizations/{organizationId}/boards", produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> getOrganizationBoards(String organizationId) {
+        String mockResponse = """
+            [
+              { "id": "board123" },
+              { "id": "board456" }
+            ]
+            """;
 
         return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
     }
 
     @Post(uri = "/cards", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
     public HttpResponse<String> createCard(@Body String body) {
+        BODIES.computeIfAbsent("POST /cards", request -> new CopyOnWriteArrayList<>()).add(body);
+
         String mockResponse = """
             {
               "id": "test-card-id",
@@ -71,6 +180,8 @@ public class TrelloMockController {
 
     @Put(uri = "/cards/{cardId}", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
     public HttpResponse<String> updateCard(String cardId, @Body String body) {
+        BODIES.computeIfAbsent("PUT /cards/" + cardId, request -> new CopyOnWriteArrayList<>()).add(body);
+
         String mockResponse = """
             {
               "id": "%s",
@@ -87,10 +198,16 @@ public class TrelloMockController {
     }
 
     @Post(uri = "/cards/{cardId}/actions/comments", produces = MediaType.APPLICATION_JSON)
-    public HttpResponse<String> addComment(String cardId, @QueryValue String text) {
+    public HttpResponse<String> addComment(String cardId, @Nullable @QueryValue String text, @Nullable @Body String body) throws Exception {
+        if (text == null && body != null) {
+            text = JacksonMapper.ofJson().readTree(body).path("text").asText(null);
+        }
+
+        COMMENTS.computeIfAbsent(cardId, id -> new CopyOnWriteArrayList<>()).add(text);
+
         String mockResponse = """
             {
-              "id": "comment123",
+              "id": "comment-%s",
               "type": "commentCard",
               "data": {
                 "text": "%s",
@@ -100,7 +217,215 @@ public class TrelloMockController {
               },
               "date": "%s"
             }
-            """.formatted(text != null ? text : "Test comment", cardId, Instant.now().toString());
+            """.formatted(COMMENT_IDS.incrementAndGet(), text != null ? text : "Test comment", cardId, Instant.now().toString());
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    // A checklist named `Without ID` is answered with an empty object, as a misbehaving proxy could
+    @Post(uri = "/checklists", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> createChecklist(@Body String body) throws Exception {
+        BODIES.computeIfAbsent("POST /checklists", request -> new CopyOnWriteArrayList<>()).add(body);
+
+        if (JacksonMapper.ofJson().readTree(body).path("name").asText().equals("Without ID")) {
+            return HttpResponse.ok("{}").contentType(MediaType.APPLICATION_JSON_TYPE);
+        }
+
+        String mockResponse = """
+            {
+              "id": "checklist-%s",
+              "name": "Checklist"
+            }
+            """.formatted(Math.abs(body.hashCode()));
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Post(uri = "/checklists/{checklistId}/checkItems", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> addCheckItem(String checklistId, @Body String body) {
+        String mockResponse = """
+            {
+              "id": "checkitem-%s",
+              "idChecklist": "%s"
+            }
+            """.formatted(Math.abs(body.hashCode()), checklistId);
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Get(uri = "/cards/{cardId}/checklists", produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> getCardChecklists(String cardId) {
+        String mockResponse = """
+            [
+              {
+                "id": "checklist-release-%s",
+                "name": "Release",
+                "checkItems": [
+                  {
+                    "id": "checkitem-changelog-%s",
+                    "name": "Changelog",
+                    "state": "incomplete",
+                    "pos": 16384
+                  },
+                  {
+                    "id": "checkitem-tag-%s",
+                    "name": "Tag",
+                    "state": "complete",
+                    "pos": 32768
+                  }
+                ]
+              }
+            ]
+            """.formatted(cardId, cardId, cardId);
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Put(uri = "/cards/{cardId}/checkItem/{checkItemId}", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> updateCheckItem(String cardId, String checkItemId, @Body String body) throws Exception {
+        String mockResponse = """
+            {
+              "id": "%s",
+              "state": "%s"
+            }
+            """.formatted(checkItemId, JacksonMapper.ofJson().readTree(body).path("state").asText());
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Get(uri = "/boards/{boardId}/customFields", produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> getBoardCustomFields(String boardId) {
+        String mockResponse = """
+            [
+              {
+                "id": "field-priority",
+                "name": "Priority",
+                "type": "list",
+                "options": [
+                  { "id": "option-high", "value": { "text": "High" } },
+                  { "id": "option-low", "value": { "text": "Low" } }
+                ]
+              },
+              { "id": "field-owner", "name": "Owner", "type": "text" }
+            ]
+            """;
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Put(uri = "/cards/{cardId}/customFields", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> setCustomFields(String cardId, @Body String body) {
+        return HttpResponse.ok("{}").contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Get(uri = "/boards/{boardId}/actions", produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> getBoardActions(String boardId, @Nullable @QueryValue String filter) throws Exception {
+        if (boardId.equals("board-closing")) {
+            // Two cards created in the same list, then one archived and the other deleted
+            String closing = """
+                [
+                  { "id": "action104", "type": "deleteCard", "date": "%s", "data": { "card": { "id": "card123" }, "list": { "id": "list789" } } },
+                  { "id": "action103", "type": "updateCard", "date": "%s", "data": { "card": { "id": "card456", "closed": true }, "old": { "closed": false }, "list": { "id": "list789" } } },
+                  { "id": "action102", "type": "createCard", "date": "%s", "data": { "card": { "id": "card456" }, "list": { "id": "list789" } } },
+                  { "id": "action101", "type": "createCard", "date": "%s", "data": { "card": { "id": "card123" }, "list": { "id": "list789" } } }
+                ]
+                """.formatted(Instant.now().minus(1, ChronoUnit.HOURS), Instant.now().minus(2, ChronoUnit.HOURS),
+                Instant.now().minus(3, ChronoUnit.HOURS), Instant.now().minus(4, ChronoUnit.HOURS));
+
+            return HttpResponse.ok(filterActions(closing, filter)).contentType(MediaType.APPLICATION_JSON_TYPE);
+        }
+
+        String mockResponse = """
+            [
+              {
+                "id": "action002",
+                "type": "updateCard",
+                "date": "%s",
+                "data": { "card": { "id": "card456" }, "listBefore": { "id": "list789" }, "listAfter": { "id": "list790" } }
+              },
+              {
+                "id": "action001",
+                "type": "createCard",
+                "date": "%s",
+                "data": { "card": { "id": "card123" }, "list": { "id": "list789" } }
+              }
+            ]
+            """.formatted(Instant.now().minus(1, ChronoUnit.HOURS), Instant.now().minus(2, ChronoUnit.HOURS));
+
+        return HttpResponse.ok(filterActions(mockResponse, filter)).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Get(uri = "/lists/{listId}/actions", produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> getListActions(String listId, @Nullable @QueryValue String filter) throws Exception {
+        String mockResponse = """
+            [
+              {
+                "id": "action003",
+                "type": "commentCard",
+                "date": "%s",
+                "idMemberCreator": "member123",
+                "data": { "text": "Ready for review", "card": { "id": "card123", "name": "Test Card" }, "list": { "id": "%s" } }
+              }
+            ]
+            """.formatted(Instant.now().minus(30, ChronoUnit.MINUTES), listId);
+
+        return HttpResponse.ok(filterActions(mockResponse, filter)).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    // Keeps the actions whose type is listed in Trello's `filter` parameter, ignoring `updateCard:idList` style qualifiers
+    private static String filterActions(String actions, String filter) throws Exception {
+        if (filter == null || filter.equals("all")) {
+            return actions;
+        }
+
+        Set<String> types = new HashSet<>();
+        for (String type : filter.split(",")) {
+            types.add(type.split(":")[0]);
+        }
+
+        ArrayNode filtered = JacksonMapper.ofJson().createArrayNode();
+        JacksonMapper.ofJson().readTree(actions).forEach(action -> {
+            if (types.contains(action.path("type").asText())) {
+                filtered.add(action);
+            }
+        });
+        return JacksonMapper.ofJson().writeValueAsString(filtered);
+    }
+
+    @Get(uri = "/cards/{cardId}", produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> getCard(String cardId) {
+        String mockResponse = """
+            {
+              "id": "%s",
+              "name": "Mirrored Card",
+              "desc": "Mirrored description",
+              "idList": "list789",
+              "closed": false,
+              "due": null
+            }
+            """.formatted(cardId);
+
+        return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    // `throttled-once` is rate limited on its first request only, `throttled-long` always, with a one hour Retry-After
+    @Get(uri = "/members/{memberId}", produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<String> getMember(String memberId) {
+        int request = MEMBER_REQUESTS.computeIfAbsent(memberId, id -> new AtomicInteger()).incrementAndGet();
+
+        if (memberId.equals("throttled-long") || (memberId.equals("throttled-once") && request == 1)) {
+            return HttpResponse.<String>status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", memberId.equals("throttled-long") ? "3600" : "1")
+                .body("{\"message\": \"API_TOKEN_LIMIT_EXCEEDED\"}")
+                .contentType(MediaType.APPLICATION_JSON_TYPE);
+        }
+
+        String mockResponse = """
+            {
+              "id": "%s",
+              "fullName": "Test Member"
+            }
+            """.formatted(memberId);
 
         return HttpResponse.ok(mockResponse).contentType(MediaType.APPLICATION_JSON_TYPE);
     }